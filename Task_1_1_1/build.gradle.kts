@@ -3,6 +3,7 @@ import org.gradle.testing.jacoco.tasks.JacocoReport
 plugins {
     id("java")
     id("jacoco")
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "org.example"
@@ -18,6 +19,12 @@ dependencies {
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
 tasks.test {
     useJUnitPlatform()
 }
@@ -0,0 +1,53 @@
+package benchmark;
+
+import java.util.Random;
+
+/**
+ * Input shapes for the sorting benchmarks.
+ */
+public enum Distribution {
+    RANDOM {
+        @Override
+        int[] generate(int size, Random random) {
+            return random.ints(size).toArray();
+        }
+    },
+    SORTED {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = i;
+            }
+            return arr;
+        }
+    },
+    REVERSED {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = size - i;
+            }
+            return arr;
+        }
+    },
+    MANY_DUPLICATES {
+        @Override
+        int[] generate(int size, Random random) {
+            return random.ints(size, 0, 16).toArray();
+        }
+    },
+    ORGAN_PIPE {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = Math.min(i, size - 1 - i);
+            }
+            return arr;
+        }
+    };
+
+    abstract int[] generate(int size, Random random);
+}
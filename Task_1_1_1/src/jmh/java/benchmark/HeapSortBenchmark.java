@@ -0,0 +1,52 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the heap sort family.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeapSortBenchmark {
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    @Param({"4096", "16384", "65536", "262144"})
+    private int cutoff;
+
+    private int[] source;
+    private int[] arr;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        source = new Random(42).ints(size).toArray();
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        arr = source.clone();
+    }
+
+    @Benchmark
+    public int[] parallelCutoff() throws Throwable {
+        Sorts.PARALLEL_HEAP_SORT_WITH_CUTOFF.invokeExact(arr, cutoff);
+        return arr;
+    }
+}
@@ -0,0 +1,54 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the heap layouts and sift-down strategies of HeapSort.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeapVariantBenchmark {
+    @Param({"100000", "10000000", "100000000"})
+    private int size;
+
+    @Param({"BINARY_RECURSIVE", "BINARY_BOTTOM_UP", "QUATERNARY", "OCTONARY"})
+    private String variant;
+
+    private Object heapVariant;
+    private int[] source;
+    private int[] arr;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        heapVariant = Sorts.heapVariant(variant);
+        source = new Random(42).ints(size).toArray();
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        arr = source.clone();
+    }
+
+    @Benchmark
+    public int[] heapSort() throws Throwable {
+        Sorts.HEAP_SORT_WITH_VARIANT.invokeExact(arr, heapVariant);
+        return arr;
+    }
+}
@@ -0,0 +1,81 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares HeapSort and IntroSort with the JDK sorts across sizes and input shapes.
+ *
+ * <p>Run with {@code ./gradlew jmh}; the gc profiler configured in the build adds the
+ * allocation rate ({@code gc.alloc.rate.norm}) next to the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class SortingBenchmark {
+    @Param({"1000", "100000", "10000000", "100000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "MANY_DUPLICATES", "ORGAN_PIPE"})
+    private Distribution distribution;
+
+    private int[] source;
+    private int[] arr;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        source = distribution.generate(size, new Random(42));
+        arr = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        System.arraycopy(source, 0, arr, 0, size);
+    }
+
+    @Benchmark
+    public int[] heapSort() throws Throwable {
+        Sorts.HEAP_SORT.invokeExact(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] introSort() throws Throwable {
+        Sorts.INTRO_SORT.invokeExact(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] parallelHeapSort() throws Throwable {
+        Sorts.PARALLEL_HEAP_SORT.invokeExact(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort() {
+        Arrays.parallelSort(arr);
+        return arr;
+    }
+}
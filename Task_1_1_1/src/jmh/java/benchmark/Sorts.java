@@ -0,0 +1,53 @@
+package benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Handles to the sorting entry points.
+ *
+ * <p>The sorts live in the unnamed package, which JMH does not allow for benchmark
+ * classes and which cannot be imported from a named one, so they are bound once
+ * through method handles. Static final handles are constant-folded by the JIT.
+ */
+final class Sorts {
+    static final MethodHandle HEAP_SORT = find("HeapSort", "heapSort",
+            MethodType.methodType(void.class, int[].class));
+
+    static final MethodHandle INTRO_SORT = find("IntroSort", "introSort",
+            MethodType.methodType(void.class, int[].class));
+
+    static final MethodHandle PARALLEL_HEAP_SORT = find("ParallelHeapSort", "parallelHeapSort",
+            MethodType.methodType(void.class, int[].class));
+
+    static final MethodHandle PARALLEL_HEAP_SORT_WITH_CUTOFF = find("ParallelHeapSort", "parallelHeapSort",
+            MethodType.methodType(void.class, int[].class, int.class));
+
+    static final MethodHandle HEAP_SORT_WITH_VARIANT = find("HeapSort", "heapSort",
+            MethodType.methodType(void.class, int[].class, type("HeapVariant")))
+            .asType(MethodType.methodType(void.class, int[].class, Object.class));
+
+    private Sorts() {}
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object heapVariant(String name) {
+        return Enum.valueOf((Class) type("HeapVariant"), name);
+    }
+
+    static Class<?> type(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static MethodHandle find(String className, String methodName, MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findStatic(type(className), methodName, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
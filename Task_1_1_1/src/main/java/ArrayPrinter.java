@@ -1,7 +1,38 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Utility class for printing integer arrays.
+ *
+ * <p>Arrays are formatted straight into a byte buffer that is written out in large
+ * chunks, so dumping big arrays does not build a string per element.
  */
 public class ArrayPrinter {
+    /**
+     * Output formats for {@link #writeArray}.
+     */
+    public enum Format {
+        /**
+         * {@code [1, 2, 3]} followed by a line separator, as printed by {@link #printArray}.
+         */
+        TEXT,
+
+        /**
+         * Raw big-endian 32-bit ints, four bytes per element and no framing.
+         */
+        BINARY
+    }
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    // Longest element: "-2147483648" plus the ", " separator.
+    private static final int MAX_ELEMENT_BYTES = 13;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
     private ArrayPrinter() {}
 
     public static void printArray(int[] arr) {
@@ -10,10 +41,110 @@ public class ArrayPrinter {
             return;
         }
 
-        System.out.print("[");
+        try {
+            writeArray(arr, System.out, Format.TEXT);
+        } catch (IOException e) {
+            System.err.println("Ошибка: не удалось вывести массив: " + e.getMessage());
+        }
+        System.out.flush();
+    }
+
+    public static void writeArray(int[] arr, OutputStream out, Format format) throws IOException {
+        if (arr == null || out == null || format == null) {
+            throw new IllegalArgumentException("Array, output and format must not be null");
+        }
+        write(arr, format, (bytes, length) -> out.write(bytes.array(), 0, length));
+    }
+
+    public static void writeArray(int[] arr, WritableByteChannel channel, Format format) throws IOException {
+        if (arr == null || channel == null || format == null) {
+            throw new IllegalArgumentException("Array, channel and format must not be null");
+        }
+        write(arr, format, (bytes, length) -> {
+            bytes.clear().limit(length);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        });
+    }
+
+    /**
+     * Receives each filled chunk as the first {@code length} bytes of the one buffer
+     * view a call allocates; the sink may move the view's position and limit.
+     */
+    private interface Sink {
+        void write(ByteBuffer bytes, int length) throws IOException;
+    }
+
+    private static void write(int[] arr, Format format, Sink sink) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(new byte[BUFFER_SIZE]);
+        if (format == Format.BINARY) {
+            writeBinary(arr, bytes, sink);
+        } else {
+            writeText(arr, bytes, sink);
+        }
+    }
+
+    private static void writeBinary(int[] arr, ByteBuffer bytes, Sink sink) throws IOException {
+        IntBuffer ints = bytes.asIntBuffer();
+        int perChunk = ints.capacity();
+
+        for (int offset = 0; offset < arr.length; offset += perChunk) {
+            int length = Math.min(perChunk, arr.length - offset);
+            ints.clear();
+            ints.put(arr, offset, length);
+            sink.write(bytes, length * Integer.BYTES);
+        }
+    }
+
+    private static void writeText(int[] arr, ByteBuffer bytes, Sink sink) throws IOException {
+        byte[] buffer = bytes.array();
+        int pos = 0;
+        buffer[pos++] = '[';
+
         for (int i = 0; i < arr.length; i++) {
-            System.out.print(arr[i] + (i < arr.length - 1 ? ", " : ""));
+            if (pos > buffer.length - MAX_ELEMENT_BYTES) {
+                sink.write(bytes, pos);
+                pos = 0;
+            }
+            if (i > 0) {
+                buffer[pos++] = ',';
+                buffer[pos++] = ' ';
+            }
+            pos = formatInt(arr[i], buffer, pos);
+        }
+
+        if (pos > buffer.length - 1 - LINE_SEPARATOR.length) {
+            sink.write(bytes, pos);
+            pos = 0;
+        }
+        buffer[pos++] = ']';
+        System.arraycopy(LINE_SEPARATOR, 0, buffer, pos, LINE_SEPARATOR.length);
+        pos += LINE_SEPARATOR.length;
+        sink.write(bytes, pos);
+    }
+
+    /**
+     * Writes the decimal digits of {@code value} at {@code pos} and returns the next free position.
+     */
+    static int formatInt(int value, byte[] buffer, int pos) {
+        long v = value;
+        if (v < 0) {
+            buffer[pos++] = '-';
+            v = -v;
+        }
+
+        int start = pos;
+        do {
+            buffer[pos++] = (byte) ('0' + (int) (v % 10));
+            v /= 10;
+        } while (v != 0);
+
+        for (int i = start, j = pos - 1; i < j; i++, j--) {
+            byte temp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = temp;
         }
-        System.out.println("]");
+        return pos;
     }
 }
@@ -0,0 +1,345 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sorts files of binary ints that do not fit in memory.
+ *
+ * <p>The input is read through memory-mapped chunks that fit the memory budget,
+ * every chunk is heap sorted and written to a run file in the temp directory,
+ * and the runs are k-way merged with a heap of run cursors. The merge buffers share
+ * the same budget, so when there are more runs than buffers of the minimum size fit
+ * in it, groups of runs are first merged into longer runs over several passes. All
+ * writes go through direct buffers. An input that fits in one chunk is sorted without
+ * run files.
+ */
+public class ExternalSort {
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+    private static final int MIN_BUFFER_BYTES = 8 * 1024;
+    private static final int MAX_BUFFER_BYTES = 4 * 1024 * 1024;
+    // Keeps the open run files well below common descriptor limits.
+    private static final int MAX_FAN_IN = 256;
+    // Part of the budget the run phase spends on its write buffer rather than the chunk.
+    private static final int WRITE_BUFFER_SHARE = 16;
+
+    private final long memoryBudget;
+    private final Path tempDir;
+    private final ByteOrder order;
+    private long bytesRead;
+    private long bytesWritten;
+    private int runCount;
+    private int mergePassCount;
+
+    public ExternalSort() {
+        this(DEFAULT_MEMORY_BUDGET, Path.of(System.getProperty("java.io.tmpdir")), ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Creates a sorter that holds at most {@code memoryBudget} bytes of ints and write
+     * buffer while it builds runs and at most as many bytes of buffers while it merges them,
+     * keeps its run files in {@code tempDir} and reads and writes ints in {@code order}.
+     */
+    public ExternalSort(long memoryBudget, Path tempDir, ByteOrder order) {
+        if (memoryBudget < 3 * Integer.BYTES) {
+            throw new IllegalArgumentException("Memory budget is too small: " + memoryBudget);
+        }
+        if (tempDir == null || order == null) {
+            throw new IllegalArgumentException("Temp directory and byte order must not be null");
+        }
+        this.memoryBudget = memoryBudget;
+        this.tempDir = tempDir;
+        this.order = order;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public Path getTempDir() {
+        return tempDir;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Number of passes over the data the last sort merged in, the final one included.
+     */
+    public int getMergePassCount() {
+        return mergePassCount;
+    }
+
+    /**
+     * Sorts the ints of {@code input} into {@code output}, replacing it if it exists.
+     * The I/O counters are reset and then cover every run file as well.
+     */
+    public void sort(Path input, Path output) throws IOException {
+        bytesRead = 0;
+        bytesWritten = 0;
+        runCount = 0;
+        mergePassCount = 0;
+
+        List<Path> runs = new ArrayList<>();
+        try {
+            try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+                long size = in.size();
+                if (size % Integer.BYTES != 0) {
+                    throw new IOException("File size is not a multiple of " + Integer.BYTES + ": " + input);
+                }
+
+                // The chunk and the write buffer share the budget.
+                ByteBuffer writeBuffer = ByteBuffer.allocateDirect(bufferBytes(WRITE_BUFFER_SHARE)).order(order);
+                int chunkInts = (int) Math.min((memoryBudget - writeBuffer.capacity()) / Integer.BYTES,
+                        Integer.MAX_VALUE - 8);
+                if (size <= (long) chunkInts * Integer.BYTES) {
+                    int[] chunk = readChunk(in, 0, (int) (size / Integer.BYTES));
+                    HeapSort.heapSort(chunk);
+                    writeRun(output, chunk, chunk.length, writeBuffer);
+                    runCount = 1;
+                    return;
+                }
+
+                int[] chunk = new int[chunkInts];
+                for (long position = 0; position < size; position += (long) chunkInts * Integer.BYTES) {
+                    int count = (int) Math.min(chunkInts, (size - position) / Integer.BYTES);
+                    readChunk(in, position, count, chunk);
+                    HeapSort.heapSort(chunk, 0, count);
+
+                    Path run = Files.createTempFile(tempDir, "run-", ".bin");
+                    runs.add(run);
+                    writeRun(run, chunk, count, writeBuffer);
+                }
+            }
+
+            runCount = runs.size();
+            mergeRuns(runs, output);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    private int[] readChunk(FileChannel in, long position, int count) throws IOException {
+        int[] chunk = new int[count];
+        readChunk(in, position, count, chunk);
+        return chunk;
+    }
+
+    private void readChunk(FileChannel in, long position, int count, int[] chunk) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, position, (long) count * Integer.BYTES);
+        mapped.order(order).asIntBuffer().get(chunk, 0, count);
+        bytesRead += (long) count * Integer.BYTES;
+    }
+
+    private void writeRun(Path path, int[] chunk, int count, ByteBuffer buffer) throws IOException {
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            IntBuffer ints = buffer.clear().asIntBuffer();
+
+            for (int offset = 0; offset < count; ) {
+                int length = Math.min(ints.capacity(), count - offset);
+                ints.clear();
+                ints.put(chunk, offset, length);
+                buffer.clear().limit(length * Integer.BYTES);
+                writeFully(out, buffer);
+                offset += length;
+            }
+        }
+    }
+
+    /**
+     * Merges the runs into {@code output}, first merging groups of them into longer runs
+     * until few enough are left to merge at once. New runs are added to {@code runs} so
+     * that the caller deletes them as well. Every merge reuses the same buffers, which
+     * together fit in the budget.
+     */
+    private void mergeRuns(List<Path> runs, Path output) throws IOException {
+        int fanIn = maxFanIn();
+        int bufferBytes = bufferBytes(Math.min(fanIn, runs.size()) + 1);
+        ByteBuffer[] buffers = new ByteBuffer[Math.min(fanIn, runs.size()) + 1];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(bufferBytes).order(order);
+        }
+
+        List<Path> pending = new ArrayList<>(runs);
+        while (pending.size() > fanIn) {
+            List<Path> merged = new ArrayList<>();
+            for (int from = 0; from < pending.size(); from += fanIn) {
+                List<Path> group = pending.subList(from, Math.min(from + fanIn, pending.size()));
+                if (group.size() == 1) {
+                    merged.add(group.get(0));
+                    continue;
+                }
+
+                Path run = Files.createTempFile(tempDir, "run-", ".bin");
+                runs.add(run);
+                merge(group, run, buffers);
+                for (Path done : group) {
+                    Files.deleteIfExists(done);
+                }
+                merged.add(run);
+            }
+            pending = merged;
+            mergePassCount++;
+        }
+        merge(pending, output, buffers);
+        mergePassCount++;
+    }
+
+    /**
+     * Most runs whose read buffers fit in the budget next to an output buffer, with every
+     * buffer at least {@link #MIN_BUFFER_BYTES} unless the budget cannot hold three.
+     */
+    private int maxFanIn() {
+        long minBuffer = Math.max(Integer.BYTES, Math.min(MIN_BUFFER_BYTES, memoryBudget / 3));
+        minBuffer -= minBuffer % Integer.BYTES;
+        return (int) Math.max(2, Math.min(MAX_FAN_IN, memoryBudget / minBuffer - 1));
+    }
+
+    /**
+     * Merges the runs into {@code output}, writing through {@code buffers[0]} and reading
+     * run {@code i} through {@code buffers[i + 1]}.
+     */
+    private void merge(List<Path> runs, Path output, ByteBuffer[] buffers) throws IOException {
+        int k = runs.size();
+        RunCursor[] cursors = new RunCursor[k];
+
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            int[] heap = new int[k];
+            int heapSize = 0;
+            for (int i = 0; i < k; i++) {
+                cursors[i] = new RunCursor(FileChannel.open(runs.get(i), StandardOpenOption.READ), buffers[i + 1]);
+                if (cursors[i].advance()) {
+                    heap[heapSize] = i;
+                    siftUp(heap, cursors, heapSize++);
+                }
+            }
+
+            ByteBuffer buffer = buffers[0].clear();
+            while (heapSize > 0) {
+                RunCursor top = cursors[heap[0]];
+                buffer.putInt(top.current);
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    writeFully(out, buffer);
+                    buffer.clear();
+                }
+
+                if (!top.advance()) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, cursors, heapSize);
+            }
+            buffer.flip();
+            writeFully(out, buffer);
+        } finally {
+            for (RunCursor cursor : cursors) {
+                if (cursor != null) {
+                    cursor.channel.close();
+                }
+            }
+        }
+    }
+
+    private int bufferBytes(int buffers) {
+        long bytes = Math.min(MAX_BUFFER_BYTES, memoryBudget / buffers);
+        return (int) Math.max(Integer.BYTES, bytes - bytes % Integer.BYTES);
+    }
+
+    private void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            bytesWritten += out.write(buffer);
+        }
+    }
+
+    private static void siftUp(int[] heap, RunCursor[] cursors, int i) {
+        int run = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (cursors[heap[parent]].current <= cursors[run].current) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = run;
+    }
+
+    private static void siftDown(int[] heap, RunCursor[] cursors, int size) {
+        if (size == 0) {
+            return;
+        }
+        int run = heap[0];
+        int i = 0;
+        int half = size >>> 1;
+
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && cursors[heap[child + 1]].current < cursors[heap[child]].current) {
+                child++;
+            }
+            if (cursors[run].current <= cursors[heap[child]].current) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = run;
+    }
+
+    private final class RunCursor {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private int current;
+
+        RunCursor(FileChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.buffer.clear().limit(0);
+        }
+
+        boolean advance() throws IOException {
+            if (buffer.remaining() < Integer.BYTES && !refill()) {
+                return false;
+            }
+            current = buffer.getInt();
+            return true;
+        }
+
+        private boolean refill() throws IOException {
+            buffer.compact();
+            while (buffer.position() < Integer.BYTES) {
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    break;
+                }
+                bytesRead += read;
+            }
+            buffer.flip();
+            return buffer.remaining() >= Integer.BYTES;
+        }
+    }
+}
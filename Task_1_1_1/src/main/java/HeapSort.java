@@ -5,6 +5,48 @@ public class HeapSort {
     private HeapSort() {}
 
     public static void heapSort(int[] arr) {
+        heapSort(arr, HeapVariant.BINARY_RECURSIVE);
+    }
+
+    public static void heapSort(int[] arr, HeapVariant variant) {
+        if (arr == null) {
+            System.err.println("Ошибка: входной массив равен null");
+            return;
+        }
+        if (variant == null) {
+            System.err.println("Ошибка: вариант кучи равен null");
+            return;
+        }
+
+        heapSort(arr, 0, arr.length, variant);
+    }
+
+    public static void heapSort(long[] arr) {
+        if (arr == null) {
+            System.err.println("Ошибка: входной массив равен null");
+            return;
+        }
+
+        int n = arr.length;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, n, i);
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            long temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+
+            siftDown(arr, i, 0);
+        }
+    }
+
+    /**
+     * Sorts doubles in the order of {@link Double#compare(double, double)}:
+     * {@code -0.0} before {@code 0.0} and every NaN after positive infinity.
+     */
+    public static void heapSort(double[] arr) {
         if (arr == null) {
             System.err.println("Ошибка: входной массив равен null");
             return;
@@ -13,37 +55,296 @@ public class HeapSort {
         int n = arr.length;
 
         for (int i = n / 2 - 1; i >= 0; i--) {
-            heapify(arr, n, i);
+            siftDown(arr, n, i);
         }
 
         for (int i = n - 1; i > 0; i--) {
-            int temp = arr[0];
+            double temp = arr[0];
             arr[0] = arr[i];
             arr[i] = temp;
 
-            heapify(arr, i, 0);
+            siftDown(arr, i, 0);
+        }
+    }
+
+    /**
+     * Reorders {@code indices} so that {@code keys[indices[0]], keys[indices[1]], ...}
+     * is ascending. The keys are not moved, so the resulting permutation can be
+     * applied to any number of parallel column arrays.
+     */
+    public static void indexSort(int[] indices, int[] keys) {
+        if (indices == null || keys == null) {
+            System.err.println("Ошибка: входной массив равен null");
+            return;
+        }
+
+        int n = indices.length;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(indices, keys, n, i);
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            int temp = indices[0];
+            indices[0] = indices[i];
+            indices[i] = temp;
+
+            siftDown(indices, keys, i, 0);
+        }
+    }
+
+    public static void indexSort(int[] indices, long[] keys) {
+        if (indices == null || keys == null) {
+            System.err.println("Ошибка: входной массив равен null");
+            return;
+        }
+
+        int n = indices.length;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(indices, keys, n, i);
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            int temp = indices[0];
+            indices[0] = indices[i];
+            indices[i] = temp;
+
+            siftDown(indices, keys, i, 0);
+        }
+    }
+
+    /**
+     * Index sort over double keys, ordered like {@link #heapSort(double[])}.
+     */
+    public static void indexSort(int[] indices, double[] keys) {
+        if (indices == null || keys == null) {
+            System.err.println("Ошибка: входной массив равен null");
+            return;
+        }
+
+        int n = indices.length;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(indices, keys, n, i);
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            int temp = indices[0];
+            indices[0] = indices[i];
+            indices[i] = temp;
+
+            siftDown(indices, keys, i, 0);
+        }
+    }
+
+    /**
+     * Returns the identity permutation {@code 0, 1, ..., n - 1} to feed into
+     * {@code indexSort}.
+     */
+    public static int[] identityPermutation(int n) {
+        int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of the array in place.
+     */
+    static void heapSort(int[] arr, int from, int to) {
+        heapSort(arr, from, to, HeapVariant.BINARY_RECURSIVE);
+    }
+
+    static void heapSort(int[] arr, int from, int to, HeapVariant variant) {
+        if (variant == HeapVariant.BINARY_RECURSIVE) {
+            recursiveHeapSort(arr, from, to);
+        } else {
+            bottomUpHeapSort(arr, from, to, variant.getArity());
+        }
+    }
+
+    private static void recursiveHeapSort(int[] arr, int from, int to) {
+        int n = to - from;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(arr, from, n, i);
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            int temp = arr[from];
+            arr[from] = arr[from + i];
+            arr[from + i] = temp;
+
+            heapify(arr, from, i, 0);
+        }
+    }
+
+    private static void bottomUpHeapSort(int[] arr, int from, int to, int arity) {
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+
+        for (int i = (n - 2) / arity; i >= 0; i--) {
+            siftDown(arr, from, n, i, arity);
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            int temp = arr[from];
+            arr[from] = arr[from + i];
+            arr[from + i] = temp;
+
+            siftDown(arr, from, i, 0, arity);
         }
     }
 
-    private static void heapify(int[] arr, int n, int i) {
+    private static void heapify(int[] arr, int from, int n, int i) {
         int largest = i;
         int left = 2 * i + 1;
         int right = 2 * i + 2;
 
-        if (left < n && arr[left] > arr[largest]) {
+        if (left < n && arr[from + left] > arr[from + largest]) {
             largest = left;
         }
 
-        if (right < n && arr[right] > arr[largest]) {
+        if (right < n && arr[from + right] > arr[from + largest]) {
             largest = right;
         }
 
         if (largest != i) {
-            int temp = arr[i];
-            arr[i] = arr[largest];
-            arr[largest] = temp;
+            int temp = arr[from + i];
+            arr[from + i] = arr[from + largest];
+            arr[from + largest] = temp;
+
+            heapify(arr, from, n, largest);
+        }
+    }
+
+    /**
+     * Floyd's sift-down: moves the hole down to a leaf along the largest children,
+     * one comparison per child, then sifts the displaced value back up.
+     */
+    private static void siftDown(int[] arr, int from, int n, int i, int arity) {
+        int value = arr[from + i];
+        int hole = i;
+        int lastParent = n < 2 ? -1 : (n - 2) / arity;
+
+        while (hole <= lastParent) {
+            int child = arity * hole + 1;
+            int largest = child;
+            int last = child + Math.min(arity, n - child);
+            for (int c = child + 1; c < last; c++) {
+                if (arr[from + c] > arr[from + largest]) {
+                    largest = c;
+                }
+            }
+            arr[from + hole] = arr[from + largest];
+            hole = largest;
+        }
+
+        while (hole > i) {
+            int parent = (hole - 1) / arity;
+            if (arr[from + parent] >= value) {
+                break;
+            }
+            arr[from + hole] = arr[from + parent];
+            hole = parent;
+        }
+        arr[from + hole] = value;
+    }
+
+    private static void siftDown(long[] arr, int n, int i) {
+        long value = arr[i];
+        int half = n >>> 1;
+
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && arr[child + 1] > arr[child]) {
+                child++;
+            }
+            if (value >= arr[child]) {
+                break;
+            }
+            arr[i] = arr[child];
+            i = child;
+        }
+        arr[i] = value;
+    }
+
+    private static void siftDown(double[] arr, int n, int i) {
+        double value = arr[i];
+        int half = n >>> 1;
+
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && Double.compare(arr[child + 1], arr[child]) > 0) {
+                child++;
+            }
+            if (Double.compare(value, arr[child]) >= 0) {
+                break;
+            }
+            arr[i] = arr[child];
+            i = child;
+        }
+        arr[i] = value;
+    }
+
+    private static void siftDown(int[] indices, int[] keys, int n, int i) {
+        int index = indices[i];
+        int key = keys[index];
+        int half = n >>> 1;
+
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && keys[indices[child + 1]] > keys[indices[child]]) {
+                child++;
+            }
+            if (key >= keys[indices[child]]) {
+                break;
+            }
+            indices[i] = indices[child];
+            i = child;
+        }
+        indices[i] = index;
+    }
+
+    private static void siftDown(int[] indices, long[] keys, int n, int i) {
+        int index = indices[i];
+        long key = keys[index];
+        int half = n >>> 1;
+
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && keys[indices[child + 1]] > keys[indices[child]]) {
+                child++;
+            }
+            if (key >= keys[indices[child]]) {
+                break;
+            }
+            indices[i] = indices[child];
+            i = child;
+        }
+        indices[i] = index;
+    }
+
+    private static void siftDown(int[] indices, double[] keys, int n, int i) {
+        int index = indices[i];
+        double key = keys[index];
+        int half = n >>> 1;
 
-            heapify(arr, n, largest);
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && Double.compare(keys[indices[child + 1]], keys[indices[child]]) > 0) {
+                child++;
+            }
+            if (Double.compare(key, keys[indices[child]]) >= 0) {
+                break;
+            }
+            indices[i] = indices[child];
+            i = child;
         }
+        indices[i] = index;
     }
 }
@@ -0,0 +1,36 @@
+/**
+ * Heap layouts and sift-down strategies supported by {@link HeapSort}.
+ */
+public enum HeapVariant {
+    /**
+     * Binary heap with the classic recursive sift-down, two comparisons per level.
+     */
+    BINARY_RECURSIVE(2),
+
+    /**
+     * Binary heap with Floyd's iterative bottom-up sift-down: descend to a leaf along
+     * the larger child, then sift the element up from there.
+     */
+    BINARY_BOTTOM_UP(2),
+
+    /**
+     * 4-ary heap with bottom-up sift-down; the four children of a node are adjacent.
+     */
+    QUATERNARY(4),
+
+    /**
+     * 8-ary heap with bottom-up sift-down; the eight children of a node share
+     * a 32-byte span, so usually a single cache line.
+     */
+    OCTONARY(8);
+
+    private final int arity;
+
+    HeapVariant(int arity) {
+        this.arity = arity;
+    }
+
+    public int getArity() {
+        return arity;
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Utility class for adaptive sorting of integer arrays.
+ *
+ * <p>Sorted and reverse-sorted inputs are detected in one linear pass. Everything else
+ * goes through dual-pivot quicksort with insertion sort for tiny ranges; a range that
+ * is still being partitioned after {@code 2 * log2(n)} levels is handed to
+ * {@link HeapSort}, which keeps the worst case at O(n log n).
+ */
+public class IntroSort {
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private IntroSort() {}
+
+    public static void introSort(int[] arr) {
+        if (arr == null) {
+            System.err.println("Ошибка: входной массив равен null");
+            return;
+        }
+        if (arr.length < 2) {
+            return;
+        }
+
+        switch (detectOrder(arr)) {
+            case 1:
+                return;
+            case -1:
+                reverse(arr);
+                return;
+            default:
+                break;
+        }
+
+        introSort(arr, 2 * (31 - Integer.numberOfLeadingZeros(arr.length)));
+    }
+
+    static void introSort(int[] arr, int depthLimit) {
+        sort(arr, 0, arr.length - 1, depthLimit);
+    }
+
+    /**
+     * Returns 1 for a non-decreasing array, -1 for a non-increasing one and 0 otherwise.
+     */
+    private static int detectOrder(int[] arr) {
+        int i = 1;
+        while (i < arr.length && arr[i - 1] == arr[i]) {
+            i++;
+        }
+        if (i == arr.length) {
+            return 1;
+        }
+
+        boolean ascending = arr[i - 1] < arr[i];
+        for (; i < arr.length; i++) {
+            if (ascending ? arr[i - 1] > arr[i] : arr[i - 1] < arr[i]) {
+                return 0;
+            }
+        }
+        return ascending ? 1 : -1;
+    }
+
+    private static void reverse(int[] arr) {
+        for (int i = 0, j = arr.length - 1; i < j; i++, j--) {
+            swap(arr, i, j);
+        }
+    }
+
+    private static void sort(int[] arr, int lo, int hi, int depth) {
+        if (hi - lo < INSERTION_SORT_THRESHOLD) {
+            insertionSort(arr, lo, hi);
+            return;
+        }
+        if (depth == 0) {
+            HeapSort.heapSort(arr, lo, hi + 1);
+            return;
+        }
+
+        int third = (hi - lo) / 3;
+        swap(arr, lo, lo + third);
+        swap(arr, hi, hi - third);
+        if (arr[lo] > arr[hi]) {
+            swap(arr, lo, hi);
+        }
+
+        int p = arr[lo];
+        int q = arr[hi];
+        int lt = lo + 1;
+        int gt = hi - 1;
+        int i = lo + 1;
+
+        while (i <= gt) {
+            if (arr[i] < p) {
+                swap(arr, i++, lt++);
+            } else if (arr[i] > q) {
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        swap(arr, lo, --lt);
+        swap(arr, hi, ++gt);
+
+        sort(arr, lo, lt - 1, depth - 1);
+        if (p < q) {
+            sort(arr, lt + 1, gt - 1, depth - 1);
+        }
+        sort(arr, gt + 1, hi, depth - 1);
+    }
+
+    private static void insertionSort(int[] arr, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            int value = arr[i];
+            int j = i - 1;
+            while (j >= lo && arr[j] > value) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = value;
+        }
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,106 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+
+/**
+ * Utility class for heap sorting ints that live outside the Java heap.
+ *
+ * <p>The sort works in place on an {@link IntBuffer} or a {@link MappedIntArray},
+ * so a memory-mapped file is sorted without copying it into an {@code int[]}.
+ */
+public class MappedHeapSort {
+    private MappedHeapSort() {}
+
+    /**
+     * Sorts the ints of {@code file} in place and flushes the result to disk.
+     */
+    public static void sortFile(Path file, ByteOrder order) throws IOException {
+        MappedIntArray array = MappedIntArray.open(file, order);
+        heapSort(array);
+        array.flush();
+    }
+
+    /**
+     * Sorts the elements between the buffer's position and limit.
+     * Position and limit are left unchanged.
+     */
+    public static void heapSort(IntBuffer buffer) {
+        if (buffer == null) {
+            System.err.println("Ошибка: входной буфер равен null");
+            return;
+        }
+
+        int from = buffer.position();
+        int n = buffer.remaining();
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(buffer, from, n, i);
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            int temp = buffer.get(from);
+            buffer.put(from, buffer.get(from + i));
+            buffer.put(from + i, temp);
+
+            siftDown(buffer, from, i, 0);
+        }
+    }
+
+    public static void heapSort(MappedIntArray array) {
+        if (array == null) {
+            System.err.println("Ошибка: входной массив равен null");
+            return;
+        }
+
+        long n = array.size();
+
+        for (long i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, n, i);
+        }
+
+        for (long i = n - 1; i > 0; i--) {
+            int temp = array.get(0);
+            array.set(0, array.get(i));
+            array.set(i, temp);
+
+            siftDown(array, i, 0);
+        }
+    }
+
+    private static void siftDown(IntBuffer buffer, int from, int n, int i) {
+        int value = buffer.get(from + i);
+        int half = n >>> 1;
+
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && buffer.get(from + child + 1) > buffer.get(from + child)) {
+                child++;
+            }
+            if (value >= buffer.get(from + child)) {
+                break;
+            }
+            buffer.put(from + i, buffer.get(from + child));
+            i = child;
+        }
+        buffer.put(from + i, value);
+    }
+
+    private static void siftDown(MappedIntArray array, long n, long i) {
+        int value = array.get(i);
+        long half = n >>> 1;
+
+        while (i < half) {
+            long child = 2 * i + 1;
+            if (child + 1 < n && array.get(child + 1) > array.get(child)) {
+                child++;
+            }
+            if (value >= array.get(child)) {
+                break;
+            }
+            array.set(i, array.get(child));
+            i = child;
+        }
+        array.set(i, value);
+    }
+}
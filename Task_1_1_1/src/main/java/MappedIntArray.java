@@ -0,0 +1,79 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-write view of a file of binary ints, addressed with {@code long} indices.
+ *
+ * <p>A single mapping is limited to 2 GB, so the file is mapped in fixed-size
+ * segments and every index is split into a segment number and an offset.
+ * Nothing is copied onto the Java heap.
+ */
+public class MappedIntArray {
+    static final int DEFAULT_SEGMENT_INTS = 1 << 28;
+
+    private final MappedByteBuffer[] mappings;
+    private final IntBuffer[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final long size;
+
+    MappedIntArray(FileChannel channel, ByteOrder order, int segmentInts) throws IOException {
+        if (Integer.bitCount(segmentInts) != 1) {
+            throw new IllegalArgumentException("Segment size must be a power of two: " + segmentInts);
+        }
+        long bytes = channel.size();
+        if (bytes % Integer.BYTES != 0) {
+            throw new IOException("File size is not a multiple of " + Integer.BYTES + ": " + bytes);
+        }
+
+        this.size = bytes / Integer.BYTES;
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentInts);
+        this.segmentMask = segmentInts - 1;
+
+        int count = (int) ((size + segmentInts - 1) >>> segmentShift);
+        this.mappings = new MappedByteBuffer[count];
+        this.segments = new IntBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long start = (long) i << segmentShift;
+            long length = Math.min(segmentInts, size - start) * Integer.BYTES;
+            mappings[i] = channel.map(FileChannel.MapMode.READ_WRITE, start * Integer.BYTES, length);
+            segments[i] = mappings[i].order(order).asIntBuffer();
+        }
+    }
+
+    /**
+     * Maps the whole file for reading and writing. The mapping stays valid after
+     * the method returns; the channel used to create it is closed.
+     */
+    public static MappedIntArray open(Path file, ByteOrder order) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new MappedIntArray(channel, order, DEFAULT_SEGMENT_INTS);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public int get(long index) {
+        return segments[(int) (index >>> segmentShift)].get((int) index & segmentMask);
+    }
+
+    public void set(long index, int value) {
+        segments[(int) (index >>> segmentShift)].put((int) index & segmentMask, value);
+    }
+
+    /**
+     * Writes all modified pages back to the file.
+     */
+    public void flush() {
+        for (MappedByteBuffer mapping : mappings) {
+            mapping.force();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utility class for parallel sorting of integer arrays.
+ *
+ * <p>The array is split into one run per available core, every run is heap sorted
+ * and the runs are merged back with a fork-join merge tree. Arrays not larger than
+ * the sequential threshold are sorted with {@link HeapSort#heapSort(int[])}.
+ */
+public class ParallelHeapSort {
+    /**
+     * Default sequential cutoff, picked with {@code HeapSortBenchmark.parallelCutoff}:
+     * below this size forking costs more than it saves.
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    private ParallelHeapSort() {}
+
+    public static void parallelHeapSort(int[] arr) {
+        parallelHeapSort(arr, SEQUENTIAL_THRESHOLD);
+    }
+
+    public static void parallelHeapSort(int[] arr, int threshold) {
+        parallelHeapSort(arr, threshold, ForkJoinPool.commonPool());
+    }
+
+    static void parallelHeapSort(int[] arr, int threshold, ForkJoinPool pool) {
+        if (arr == null) {
+            System.err.println("Ошибка: входной массив равен null");
+            return;
+        }
+
+        int cutoff = Math.max(threshold, 2);
+        if (arr.length <= cutoff || pool.getParallelism() < 2) {
+            HeapSort.heapSort(arr);
+            return;
+        }
+
+        int runLength = Math.max(cutoff, (arr.length + pool.getParallelism() - 1) / pool.getParallelism());
+        pool.invoke(new SortTask(arr, new int[arr.length], 0, arr.length, runLength, cutoff));
+    }
+
+    private static class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final int runLength;
+        private final int cutoff;
+
+        SortTask(int[] arr, int[] buffer, int from, int to, int runLength, int cutoff) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.runLength = runLength;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= runLength) {
+                HeapSort.heapSort(arr, from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(arr, buffer, from, mid, runLength, cutoff),
+                    new SortTask(arr, buffer, mid, to, runLength, cutoff));
+
+            new MergeTask(arr, buffer, from, mid, mid, to, from, cutoff).invoke();
+            System.arraycopy(buffer, from, arr, from, to - from);
+        }
+    }
+
+    /**
+     * Merges the sorted ranges {@code src[lo1, hi1)} and {@code src[lo2, hi2)}
+     * into {@code dst} starting at {@code out}.
+     */
+    private static class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int out;
+        private final int cutoff;
+
+        MergeTask(int[] src, int[] dst, int lo1, int hi1, int lo2, int hi2, int out, int cutoff) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            int len1 = hi1 - lo1;
+            int len2 = hi2 - lo2;
+
+            if (len1 + len2 <= cutoff) {
+                merge();
+                return;
+            }
+
+            if (len1 < len2) {
+                new MergeTask(src, dst, lo2, hi2, lo1, hi1, out, cutoff).compute();
+                return;
+            }
+
+            int mid1 = (lo1 + hi1) >>> 1;
+            int mid2 = lowerBound(src, lo2, hi2, src[mid1]);
+            int split = out + (mid1 - lo1) + (mid2 - lo2);
+
+            invokeAll(new MergeTask(src, dst, lo1, mid1, lo2, mid2, out, cutoff),
+                    new MergeTask(src, dst, mid1, hi1, mid2, hi2, split, cutoff));
+        }
+
+        private void merge() {
+            int i = lo1;
+            int j = lo2;
+            int k = out;
+
+            while (i < hi1 && j < hi2) {
+                dst[k++] = src[i] <= src[j] ? src[i++] : src[j++];
+            }
+            while (i < hi1) {
+                dst[k++] = src[i++];
+            }
+            while (j < hi2) {
+                dst[k++] = src[j++];
+            }
+        }
+
+        private static int lowerBound(int[] arr, int from, int to, int value) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                if (arr[mid] < value) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+    }
+}
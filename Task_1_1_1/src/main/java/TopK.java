@@ -0,0 +1,169 @@
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.function.IntSupplier;
+
+/**
+ * Bounded heap that keeps the {@code k} smallest or largest of the values offered to it.
+ *
+ * <p>Every offer costs O(log k) and the heap never holds more than {@code k} ints,
+ * so inputs of any length can be streamed through it in O(n log k). The heap grows
+ * as values arrive, so a large {@code k} over a short input costs only the input.
+ * The static helpers cover arrays, iterators and suppliers; like the constructor, they
+ * throw IllegalArgumentException for a null source or a negative {@code k}.
+ */
+public class TopK {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] heap;
+    private final int k;
+    private final boolean largest;
+    private int size;
+
+    /**
+     * Creates an accumulator for the {@code k} smallest values, or the {@code k}
+     * largest when {@code largest} is set.
+     */
+    public TopK(int k, boolean largest) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.heap = new int[Math.min(k, INITIAL_CAPACITY)];
+        this.k = k;
+        this.largest = largest;
+    }
+
+    public static int[] smallest(int[] arr, int k) {
+        return select(arr, k, false);
+    }
+
+    public static int[] largest(int[] arr, int k) {
+        return select(arr, k, true);
+    }
+
+    public static int[] smallest(PrimitiveIterator.OfInt source, int k) {
+        return select(source, k, false);
+    }
+
+    public static int[] largest(PrimitiveIterator.OfInt source, int k) {
+        return select(source, k, true);
+    }
+
+    /**
+     * Reads {@code count} values from {@code source} and returns the smallest {@code k}.
+     */
+    public static int[] smallest(IntSupplier source, long count, int k) {
+        return select(source, count, k, false);
+    }
+
+    /**
+     * Reads {@code count} values from {@code source} and returns the largest {@code k}.
+     */
+    public static int[] largest(IntSupplier source, long count, int k) {
+        return select(source, count, k, true);
+    }
+
+    /**
+     * Offers a value; it is kept only if it belongs to the current top {@code k}.
+     */
+    public void offer(int value) {
+        // Bitwise NOT reverses the order of ints without overflow, so both modes
+        // share one max-heap that keeps the k smallest keys.
+        int key = largest ? ~value : value;
+
+        if (size < k) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, (int) Math.min(k, 2L * size));
+            }
+            siftUp(size++, key);
+        } else if (size > 0 && key < heap[0]) {
+            siftDown(key);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the retained values, ascending for the smallest mode and descending
+     * for the largest mode. The accumulator itself is left unchanged.
+     */
+    public int[] toSortedArray() {
+        int[] result = new int[size];
+        System.arraycopy(heap, 0, result, 0, size);
+        HeapSort.heapSort(result);
+
+        if (largest) {
+            for (int i = 0; i < size; i++) {
+                result[i] = ~result[i];
+            }
+        }
+        return result;
+    }
+
+    private void siftUp(int i, int key) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] >= key) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+    }
+
+    private void siftDown(int key) {
+        int i = 0;
+        int half = size >>> 1;
+
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (key >= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+    }
+
+    private static int[] select(int[] arr, int k, boolean largest) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array must not be null");
+        }
+
+        TopK topK = new TopK(k, largest);
+        for (int value : arr) {
+            topK.offer(value);
+        }
+        return topK.toSortedArray();
+    }
+
+    private static int[] select(PrimitiveIterator.OfInt source, int k, boolean largest) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source must not be null");
+        }
+
+        TopK topK = new TopK(k, largest);
+        while (source.hasNext()) {
+            topK.offer(source.nextInt());
+        }
+        return topK.toSortedArray();
+    }
+
+    private static int[] select(IntSupplier source, long count, int k, boolean largest) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source must not be null");
+        }
+
+        TopK topK = new TopK(k, largest);
+        for (long i = 0; i < count; i++) {
+            topK.offer(source.getAsInt());
+        }
+        return topK.toSortedArray();
+    }
+}
@@ -1,3 +1,12 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,4 +31,87 @@ public class ArrayPrinterTest {
     public void testPrintArrayWithNullArray() {
         assertDoesNotThrow(() -> ArrayPrinter.printArray(null));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPrintArrayOutput() {
+        PrintStream original = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+        try {
+            ArrayPrinter.printArray(new int[] {2, -3, 4});
+        } finally {
+            System.setOut(original);
+        }
+
+        assertEquals("[2, -3, 4]" + System.lineSeparator(), out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testWriteTextWithExtremeValues() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ArrayPrinter.writeArray(new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -1}, out,
+                ArrayPrinter.Format.TEXT);
+
+        assertEquals("[-2147483648, 0, 2147483647, -1]" + System.lineSeparator(),
+                out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testWriteTextEmptyArray() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ArrayPrinter.writeArray(new int[0], out, ArrayPrinter.Format.TEXT);
+
+        assertEquals("[]" + System.lineSeparator(), out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testWriteTextSpanningManyBuffers() throws IOException {
+        int[] arr = new Random(1).ints(50_000).toArray();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ArrayPrinter.writeArray(arr, out, ArrayPrinter.Format.TEXT);
+
+        String expected = Arrays.stream(arr).mapToObj(Integer::toString)
+                .collect(Collectors.joining(", ", "[", "]" + System.lineSeparator()));
+        assertEquals(expected, out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testWriteTextToChannel() throws IOException {
+        int[] arr = new Random(2).ints(20_000, -100, 100).toArray();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ArrayPrinter.writeArray(arr, Channels.newChannel(out), ArrayPrinter.Format.TEXT);
+
+        assertEquals(Arrays.toString(arr) + System.lineSeparator(), out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testWriteBinary() throws IOException {
+        int[] arr = new Random(3).ints(40_000).toArray();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ByteArrayOutputStream channel = new ByteArrayOutputStream();
+
+        ArrayPrinter.writeArray(arr, stream, ArrayPrinter.Format.BINARY);
+        ArrayPrinter.writeArray(arr, Channels.newChannel(channel), ArrayPrinter.Format.BINARY);
+
+        int[] decoded = new int[arr.length];
+        ByteBuffer.wrap(stream.toByteArray()).asIntBuffer().get(decoded);
+        assertArrayEquals(arr, decoded);
+        assertArrayEquals(stream.toByteArray(), channel.toByteArray());
+    }
+
+    @Test
+    public void testWriteArrayWithNullArguments() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ArrayPrinter.writeArray(null, out, ArrayPrinter.Format.TEXT));
+        assertThrows(IllegalArgumentException.class,
+                () -> ArrayPrinter.writeArray(new int[0], out, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> ArrayPrinter.writeArray(new int[0], Channels.newChannel(out), null));
+    }
+}
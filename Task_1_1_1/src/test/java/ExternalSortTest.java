@@ -0,0 +1,158 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ExternalSort.
+ */
+public class ExternalSortTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testSortSingleChunk() throws IOException {
+        int[] data = {9, 4, 3, 8, 10, 2, 5};
+        Path input = write(data, ByteOrder.BIG_ENDIAN);
+        Path output = dir.resolve("out.bin");
+
+        ExternalSort sorter = new ExternalSort();
+        sorter.sort(input, output);
+
+        assertArrayEquals(new int[] {2, 3, 4, 5, 8, 9, 10}, read(output, ByteOrder.BIG_ENDIAN));
+        assertEquals(1, sorter.getRunCount());
+        assertEquals(28, sorter.getBytesRead());
+        assertEquals(28, sorter.getBytesWritten());
+    }
+
+    @Test
+    public void testSortManyRuns() throws IOException {
+        int[] data = new Random(17).ints(100_000).toArray();
+        Path input = write(data, ByteOrder.BIG_ENDIAN);
+        Path output = dir.resolve("out.bin");
+        Path temp = Files.createDirectory(dir.resolve("runs"));
+
+        ExternalSort sorter = new ExternalSort(16 * 1024, temp, ByteOrder.BIG_ENDIAN);
+        sorter.sort(input, output);
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, read(output, ByteOrder.BIG_ENDIAN));
+        assertEquals(27, sorter.getRunCount());
+        // Two buffers of 8 KiB and an output buffer do not fit in 16 KiB, so runs are
+        // merged in pairs: 27, 14, 7, 4, 2 and then into the output.
+        assertEquals(5, sorter.getMergePassCount());
+        assertEquals(sorter.getBytesRead(), sorter.getBytesWritten());
+        assertTrue(sorter.getBytesRead() > 2L * data.length * Integer.BYTES);
+        try (Stream<Path> files = Files.list(temp)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void testSortMergesInOnePassWhenBuffersFit() throws IOException {
+        int[] data = new Random(5).ints(1_000_000).toArray();
+        Path input = write(data, ByteOrder.BIG_ENDIAN);
+        Path output = dir.resolve("out.bin");
+        Path temp = Files.createDirectory(dir.resolve("runs"));
+
+        ExternalSort sorter = new ExternalSort(256 * 1024, temp, ByteOrder.BIG_ENDIAN);
+        sorter.sort(input, output);
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, read(output, ByteOrder.BIG_ENDIAN));
+        assertEquals(17, sorter.getRunCount());
+        assertEquals(1, sorter.getMergePassCount());
+        assertEquals(2L * data.length * Integer.BYTES, sorter.getBytesRead());
+        assertEquals(2L * data.length * Integer.BYTES, sorter.getBytesWritten());
+        try (Stream<Path> files = Files.list(temp)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void testSortWithSmallestBudget() throws IOException {
+        int[] data = {5, -1, 7, 3, 3, 0, -8, 2, 9, 1};
+        Path input = write(data, ByteOrder.BIG_ENDIAN);
+        Path output = dir.resolve("out.bin");
+
+        ExternalSort sorter = new ExternalSort(3 * Integer.BYTES, dir, ByteOrder.BIG_ENDIAN);
+        sorter.sort(input, output);
+
+        assertArrayEquals(new int[] {-8, -1, 0, 1, 2, 3, 3, 5, 7, 9}, read(output, ByteOrder.BIG_ENDIAN));
+        assertEquals(5, sorter.getRunCount());
+        assertEquals(3, sorter.getMergePassCount());
+    }
+
+    @Test
+    public void testSortLittleEndianWithPartialLastRun() throws IOException {
+        int[] data = new Random(3).ints(1_001, -20, 20).toArray();
+        Path input = write(data, ByteOrder.LITTLE_ENDIAN);
+        Path output = dir.resolve("out.bin");
+
+        ExternalSort sorter = new ExternalSort(400, dir, ByteOrder.LITTLE_ENDIAN);
+        sorter.sort(input, output);
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, read(output, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(11, sorter.getRunCount());
+        assertEquals(4, sorter.getMergePassCount());
+    }
+
+    @Test
+    public void testSortEmptyFile() throws IOException {
+        Path input = write(new int[0], ByteOrder.BIG_ENDIAN);
+        Path output = dir.resolve("out.bin");
+
+        new ExternalSort().sort(input, output);
+
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    public void testSortRejectsTruncatedFile() throws IOException {
+        Path input = dir.resolve("bad.bin");
+        Files.write(input, new byte[] {1, 2, 3});
+
+        assertThrows(IOException.class, () -> new ExternalSort().sort(input, dir.resolve("out.bin")));
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort(8, dir, ByteOrder.BIG_ENDIAN));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort(1024, null, ByteOrder.BIG_ENDIAN));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort(1024, dir, null));
+    }
+
+    @Test
+    public void testSettingsGetters() {
+        ExternalSort sorter = new ExternalSort(1024, dir, ByteOrder.BIG_ENDIAN);
+
+        assertEquals(1024, sorter.getMemoryBudget());
+        assertEquals(dir, sorter.getTempDir());
+    }
+
+    private Path write(int[] data, ByteOrder order) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(data.length * Integer.BYTES).order(order);
+        buffer.asIntBuffer().put(data);
+        Path path = Files.createTempFile(dir, "in-", ".bin");
+        Files.write(path, buffer.array());
+        return path;
+    }
+
+    private static int[] read(Path path, ByteOrder order) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(order);
+        int[] data = new int[buffer.remaining() / Integer.BYTES];
+        buffer.asIntBuffer().get(data);
+        return data;
+    }
+}
@@ -1,4 +1,8 @@
+import java.util.Arrays;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -84,4 +88,165 @@ public class HeapSortTest {
 
         assertArrayEquals(null, arr);
     }
+
+    @ParameterizedTest
+    @EnumSource(HeapVariant.class)
+    public void testHeapSortVariantWithRegularArray(HeapVariant variant) {
+        int[] arr = {9, 4, 3, 8, 10, 2, 5};
+        int[] expected = {2, 3, 4, 5, 8, 9, 10};
+
+        HeapSort.heapSort(arr, variant);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @ParameterizedTest
+    @EnumSource(HeapVariant.class)
+    public void testHeapSortVariantMatchesArraysSort(HeapVariant variant) {
+        Random random = new Random(variant.ordinal());
+        for (int size = 0; size < 200; size++) {
+            int[] arr = random.ints(size, -50, 50).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            HeapSort.heapSort(arr, variant);
+
+            assertArrayEquals(expected, arr);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(HeapVariant.class)
+    public void testHeapSortVariantWithReverseSortedArray(HeapVariant variant) {
+        int[] arr = {5, 4, 3, 2, 1};
+        int[] expected = {1, 2, 3, 4, 5};
+
+        HeapSort.heapSort(arr, variant);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testHeapSortWithNullVariant() {
+        int[] arr = {3, 1, 2};
+        HeapSort.heapSort(arr, null);
+
+        assertArrayEquals(new int[] {3, 1, 2}, arr);
+    }
+
+    @Test
+    public void testHeapVariantArity() {
+        assertEquals(2, HeapVariant.BINARY_RECURSIVE.getArity());
+        assertEquals(2, HeapVariant.BINARY_BOTTOM_UP.getArity());
+        assertEquals(4, HeapVariant.QUATERNARY.getArity());
+        assertEquals(8, HeapVariant.OCTONARY.getArity());
+    }
+
+    @Test
+    public void testHeapSortLongArray() {
+        long[] arr = {5_000_000_000L, -1L, Long.MAX_VALUE, 0L, Long.MIN_VALUE, -1L};
+        long[] expected = {Long.MIN_VALUE, -1L, -1L, 0L, 5_000_000_000L, Long.MAX_VALUE};
+
+        HeapSort.heapSort(arr);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testHeapSortDoubleArrayWithSpecialValues() {
+        double[] arr = {Double.NaN, 0.0, 1.5, -0.0, Double.NEGATIVE_INFINITY, -2.5, Double.POSITIVE_INFINITY};
+        double[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        HeapSort.heapSort(arr);
+
+        assertArrayEquals(expected, arr);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(arr[2]));
+        assertTrue(Double.isNaN(arr[arr.length - 1]));
+    }
+
+    @Test
+    public void testHeapSortPrimitiveArraysMatchArraysSort() {
+        Random random = new Random(5);
+        for (int size = 0; size < 100; size++) {
+            long[] longs = random.longs(size).toArray();
+            double[] doubles = random.doubles(size, -10, 10).toArray();
+            long[] expectedLongs = longs.clone();
+            double[] expectedDoubles = doubles.clone();
+            Arrays.sort(expectedLongs);
+            Arrays.sort(expectedDoubles);
+
+            HeapSort.heapSort(longs);
+            HeapSort.heapSort(doubles);
+
+            assertArrayEquals(expectedLongs, longs);
+            assertArrayEquals(expectedDoubles, doubles);
+        }
+    }
+
+    @Test
+    public void testHeapSortPrimitiveArraysWithNull() {
+        assertDoesNotThrow(() -> HeapSort.heapSort((long[]) null));
+        assertDoesNotThrow(() -> HeapSort.heapSort((double[]) null));
+    }
+
+    @Test
+    public void testIndexSortWithIntKeys() {
+        int[] keys = {30, 10, 20, 10};
+        String[] names = {"c", "a", "b", "a2"};
+        int[] indices = HeapSort.identityPermutation(keys.length);
+
+        HeapSort.indexSort(indices, keys);
+
+        assertArrayEquals(new int[] {30, 10, 20, 10}, keys);
+        for (int i = 1; i < indices.length; i++) {
+            assertTrue(keys[indices[i - 1]] <= keys[indices[i]]);
+        }
+        assertEquals("b", names[indices[2]]);
+        assertEquals("c", names[indices[3]]);
+    }
+
+    @Test
+    public void testIndexSortWithLongKeys() {
+        long[] keys = {3L, Long.MIN_VALUE, 2L, Long.MAX_VALUE};
+        int[] indices = HeapSort.identityPermutation(keys.length);
+
+        HeapSort.indexSort(indices, keys);
+
+        assertArrayEquals(new int[] {1, 2, 0, 3}, indices);
+    }
+
+    @Test
+    public void testIndexSortWithDoubleKeys() {
+        double[] keys = {Double.NaN, 0.0, -0.0, -1.0};
+        int[] indices = HeapSort.identityPermutation(keys.length);
+
+        HeapSort.indexSort(indices, keys);
+
+        assertArrayEquals(new int[] {3, 2, 1, 0}, indices);
+    }
+
+    @Test
+    public void testIndexSortMatchesArraysSort() {
+        Random random = new Random(9);
+        int[] keys = random.ints(500, -1000, 1000).toArray();
+        int[] indices = HeapSort.identityPermutation(keys.length);
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+
+        HeapSort.indexSort(indices, keys);
+
+        int[] actual = new int[keys.length];
+        for (int i = 0; i < indices.length; i++) {
+            actual[i] = keys[indices[i]];
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testIndexSortWithNull() {
+        assertDoesNotThrow(() -> HeapSort.indexSort(null, new int[0]));
+        assertDoesNotThrow(() -> HeapSort.indexSort(new int[0], (long[]) null));
+        assertDoesNotThrow(() -> HeapSort.indexSort(null, new double[0]));
+    }
 }
@@ -0,0 +1,122 @@
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IntroSort.
+ */
+public class IntroSortTest {
+
+    @Test
+    public void testIntroSortWithRegularArray() {
+        int[] arr = {9, 4, 3, 8, 10, 2, 5};
+        int[] expected = {2, 3, 4, 5, 8, 9, 10};
+
+        IntroSort.introSort(arr);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testIntroSortWithRandomArrays() {
+        Random random = new Random(21);
+        for (int size : new int[] {0, 1, 2, 31, 32, 33, 100, 1_000, 100_000}) {
+            int[] arr = random.ints(size).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            IntroSort.introSort(arr);
+
+            assertArrayEquals(expected, arr);
+        }
+    }
+
+    @Test
+    public void testIntroSortWithManyDuplicates() {
+        int[] arr = new Random(4).ints(50_000, 0, 3).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        IntroSort.introSort(arr);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testIntroSortWithSortedArray() {
+        int[] arr = {1, 2, 2, 3, 4, 5};
+
+        IntroSort.introSort(arr);
+
+        assertArrayEquals(new int[] {1, 2, 2, 3, 4, 5}, arr);
+    }
+
+    @Test
+    public void testIntroSortWithReverseSortedArray() {
+        int[] arr = {7, 7, 5, 4, 4, 3, 1};
+
+        IntroSort.introSort(arr);
+
+        assertArrayEquals(new int[] {1, 3, 4, 4, 5, 7, 7}, arr);
+    }
+
+    @Test
+    public void testIntroSortWithConstantArray() {
+        int[] arr = new int[1_000];
+        Arrays.fill(arr, 42);
+
+        IntroSort.introSort(arr);
+
+        for (int value : arr) {
+            assertEquals(42, value);
+        }
+    }
+
+    @Test
+    public void testIntroSortWithOrganPipeArray() {
+        int[] arr = new int[10_001];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = Math.min(i, arr.length - 1 - i);
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        IntroSort.introSort(arr);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testIntroSortFallsBackToHeapSort() {
+        Random random = new Random(8);
+        for (int depthLimit = 0; depthLimit < 3; depthLimit++) {
+            int[] arr = random.ints(5_000).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            IntroSort.introSort(arr, depthLimit);
+
+            assertArrayEquals(expected, arr);
+        }
+    }
+
+    @Test
+    public void testIntroSortWithSawtoothArray() {
+        int[] arr = new int[20_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = (i % 2 == 0) ? i : -i;
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        IntroSort.introSort(arr);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testIntroSortWithNullArr() {
+        assertDoesNotThrow(() -> IntroSort.introSort(null));
+    }
+}
@@ -0,0 +1,107 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MappedHeapSort.
+ */
+public class MappedHeapSortTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testHeapSortDirectBuffer() {
+        int[] data = new Random(1).ints(1_000).toArray();
+        IntBuffer buffer = ByteBuffer.allocateDirect(data.length * Integer.BYTES).asIntBuffer();
+        buffer.put(data).flip();
+
+        MappedHeapSort.heapSort(buffer);
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        int[] actual = new int[data.length];
+        buffer.get(0, actual);
+        assertArrayEquals(expected, actual);
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void testHeapSortBufferRemainingOnly() {
+        IntBuffer buffer = IntBuffer.wrap(new int[] {9, 5, 3, 1, 4, 0});
+        buffer.position(1).limit(5);
+
+        MappedHeapSort.heapSort(buffer);
+
+        assertArrayEquals(new int[] {9, 1, 3, 4, 5, 0}, buffer.array());
+        assertEquals(1, buffer.position());
+        assertEquals(5, buffer.limit());
+    }
+
+    @Test
+    public void testSortFile() throws IOException {
+        int[] data = new Random(2).ints(10_000).toArray();
+        Path file = write(data, ByteOrder.LITTLE_ENDIAN);
+
+        MappedHeapSort.sortFile(file, ByteOrder.LITTLE_ENDIAN);
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, read(file, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Test
+    public void testHeapSortAcrossSegments() throws IOException {
+        int[] data = new Random(3).ints(777, -50, 50).toArray();
+        Path file = write(data, ByteOrder.BIG_ENDIAN);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedIntArray array = new MappedIntArray(channel, ByteOrder.BIG_ENDIAN, 64);
+            MappedHeapSort.heapSort(array);
+            array.flush();
+        }
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, read(file, ByteOrder.BIG_ENDIAN));
+    }
+
+    @Test
+    public void testSortEmptyFile() throws IOException {
+        Path file = write(new int[0], ByteOrder.BIG_ENDIAN);
+
+        MappedHeapSort.sortFile(file, ByteOrder.BIG_ENDIAN);
+
+        assertEquals(0, Files.size(file));
+    }
+
+    @Test
+    public void testHeapSortWithNull() {
+        assertDoesNotThrow(() -> MappedHeapSort.heapSort((IntBuffer) null));
+        assertDoesNotThrow(() -> MappedHeapSort.heapSort((MappedIntArray) null));
+    }
+
+    private Path write(int[] data, ByteOrder order) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(data.length * Integer.BYTES).order(order);
+        buffer.asIntBuffer().put(data);
+        Path path = Files.createTempFile(dir, "data-", ".bin");
+        Files.write(path, buffer.array());
+        return path;
+    }
+
+    private static int[] read(Path path, ByteOrder order) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(order);
+        int[] data = new int[buffer.remaining() / Integer.BYTES];
+        buffer.asIntBuffer().get(data);
+        return data;
+    }
+}
@@ -0,0 +1,71 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MappedIntArray.
+ */
+public class MappedIntArrayTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testGetAndSetAcrossSegments() throws IOException {
+        Path file = dir.resolve("data.bin");
+        Files.write(file, new byte[10 * Integer.BYTES]);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedIntArray array = new MappedIntArray(channel, ByteOrder.BIG_ENDIAN, 4);
+            assertEquals(10, array.size());
+
+            for (long i = 0; i < array.size(); i++) {
+                array.set(i, (int) (i * 11));
+            }
+            array.flush();
+        }
+
+        ByteBuffer written = ByteBuffer.wrap(Files.readAllBytes(file));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i * 11, written.getInt());
+        }
+    }
+
+    @Test
+    public void testOpenWithLittleEndian() throws IOException {
+        Path file = dir.resolve("data.bin");
+        ByteBuffer data = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putInt(7).putInt(-7);
+        Files.write(file, data.array());
+
+        MappedIntArray array = MappedIntArray.open(file, ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals(2, array.size());
+        assertEquals(7, array.get(0));
+        assertEquals(-7, array.get(1));
+    }
+
+    @Test
+    public void testOpenRejectsTruncatedFile() throws IOException {
+        Path file = dir.resolve("bad.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5});
+
+        assertThrows(IOException.class, () -> MappedIntArray.open(file, ByteOrder.BIG_ENDIAN));
+    }
+
+    @Test
+    public void testRejectsNonPowerOfTwoSegments() throws IOException {
+        Path file = dir.resolve("data.bin");
+        Files.write(file, new byte[8]);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new MappedIntArray(channel, ByteOrder.BIG_ENDIAN, 3));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ParallelHeapSort.
+ */
+public class ParallelHeapSortTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testParallelHeapSortWithRegularArray() {
+        int[] arr = {9, 4, 3, 8, 10, 2, 5};
+        int[] expected = {2, 3, 4, 5, 8, 9, 10};
+
+        ParallelHeapSort.parallelHeapSort(arr);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testParallelHeapSortMatchesHeapSort() {
+        int[] arr = new Random(7).ints(100_000).toArray();
+        int[] expected = arr.clone();
+        HeapSort.heapSort(expected);
+
+        ParallelHeapSort.parallelHeapSort(arr, 1_000, pool);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testParallelHeapSortWithDuplicates() {
+        int[] arr = new Random(11).ints(50_000, 0, 16).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ParallelHeapSort.parallelHeapSort(arr, 64, pool);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testParallelHeapSortWithTinyThreshold() {
+        int[] arr = new Random(3).ints(1_000, -100, 100).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ParallelHeapSort.parallelHeapSort(arr, 1, pool);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testParallelHeapSortWithReverseSortedArray() {
+        int[] arr = new int[10_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = arr.length - i;
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ParallelHeapSort.parallelHeapSort(arr, 100, pool);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testParallelHeapSortBelowThreshold() {
+        int[] arr = {5, -1, 3};
+        int[] expected = {-1, 3, 5};
+
+        ParallelHeapSort.parallelHeapSort(arr, 1_000, pool);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void testParallelHeapSortWithEmptyArray() {
+        int[] arr = {};
+
+        ParallelHeapSort.parallelHeapSort(arr, 1, pool);
+
+        assertArrayEquals(new int[0], arr);
+    }
+
+    @Test
+    public void testParallelHeapSortWithNullArr() {
+        assertDoesNotThrow(() -> ParallelHeapSort.parallelHeapSort(null));
+    }
+}
@@ -0,0 +1,146 @@
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TopK.
+ */
+public class TopKTest {
+
+    @Test
+    public void testSmallestWithRegularArray() {
+        int[] arr = {9, 4, 3, 8, 10, 2, 5};
+
+        assertArrayEquals(new int[] {2, 3, 4}, TopK.smallest(arr, 3));
+    }
+
+    @Test
+    public void testLargestWithRegularArray() {
+        int[] arr = {9, 4, 3, 8, 10, 2, 5};
+
+        assertArrayEquals(new int[] {10, 9, 8}, TopK.largest(arr, 3));
+    }
+
+    @Test
+    public void testSmallestDoesNotModifyInput() {
+        int[] arr = {3, 1, 2};
+
+        TopK.smallest(arr, 2);
+
+        assertArrayEquals(new int[] {3, 1, 2}, arr);
+    }
+
+    @Test
+    public void testSelectMatchesFullSort() {
+        int[] arr = new Random(1).ints(10_000).toArray();
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        int[] smallest = TopK.smallest(arr, 100);
+        int[] largest = TopK.largest(arr, 100);
+
+        assertArrayEquals(Arrays.copyOfRange(sorted, 0, 100), smallest);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(sorted[sorted.length - 1 - i], largest[i]);
+        }
+    }
+
+    @Test
+    public void testSelectWithExtremeValues() {
+        int[] arr = {0, Integer.MIN_VALUE, Integer.MAX_VALUE, -1};
+
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, -1}, TopK.smallest(arr, 2));
+        assertArrayEquals(new int[] {Integer.MAX_VALUE, 0}, TopK.largest(arr, 2));
+    }
+
+    @Test
+    public void testKLargerThanArray() {
+        int[] arr = {5, 1, 3};
+
+        assertArrayEquals(new int[] {1, 3, 5}, TopK.smallest(arr, 10));
+        assertArrayEquals(new int[] {5, 3, 1}, TopK.largest(arr, 10));
+    }
+
+    @Test
+    public void testZeroOrNegativeK() {
+        int[] arr = {5, 1, 3};
+
+        assertArrayEquals(new int[0], TopK.smallest(arr, 0));
+        assertThrows(IllegalArgumentException.class, () -> TopK.largest(arr, -1));
+    }
+
+    @Test
+    public void testHugeKOnSmallInput() {
+        int[] arr = {5, 1, 3};
+
+        assertArrayEquals(new int[] {1, 3, 5}, TopK.smallest(arr, Integer.MAX_VALUE));
+        assertArrayEquals(new int[] {3, 2, 1},
+                TopK.largest(IntStream.rangeClosed(1, 3).iterator(), Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testAccumulatorGrowsUpToK() {
+        TopK topK = new TopK(100, true);
+        for (int i = 0; i < 1000; i++) {
+            topK.offer(i);
+        }
+
+        assertEquals(100, topK.size());
+        int[] result = topK.toSortedArray();
+        assertEquals(999, result[0]);
+        assertEquals(900, result[99]);
+    }
+
+    @Test
+    public void testSelectFromIterator() {
+        int[] smallest = TopK.smallest(IntStream.rangeClosed(1, 1_000_000).iterator(), 3);
+        int[] largest = TopK.largest(IntStream.rangeClosed(1, 1_000_000).iterator(), 3);
+
+        assertArrayEquals(new int[] {1, 2, 3}, smallest);
+        assertArrayEquals(new int[] {1_000_000, 999_999, 999_998}, largest);
+    }
+
+    @Test
+    public void testSelectFromSupplier() {
+        int[] counter = {0};
+
+        int[] largest = TopK.largest(() -> counter[0]++ % 1000, 5_000, 4);
+
+        assertArrayEquals(new int[] {999, 999, 999, 999}, largest);
+        assertEquals(5_000, counter[0]);
+    }
+
+    @Test
+    public void testSelectFromEmptySupplier() {
+        assertArrayEquals(new int[0], TopK.smallest(() -> 1, 0, 2));
+    }
+
+    @Test
+    public void testAccumulator() {
+        TopK topK = new TopK(2, false);
+        topK.offer(7);
+        topK.offer(3);
+        topK.offer(9);
+        topK.offer(1);
+
+        assertEquals(2, topK.size());
+        assertArrayEquals(new int[] {1, 3}, topK.toSortedArray());
+        assertArrayEquals(new int[] {1, 3}, topK.toSortedArray());
+    }
+
+    @Test
+    public void testAccumulatorWithNegativeK() {
+        assertThrows(IllegalArgumentException.class, () -> new TopK(-1, true));
+    }
+
+    @Test
+    public void testSelectWithNullSource() {
+        assertThrows(IllegalArgumentException.class, () -> TopK.smallest((int[]) null, 3));
+        assertThrows(IllegalArgumentException.class, () -> TopK.largest((PrimitiveIterator.OfInt) null, 3));
+        assertThrows(IllegalArgumentException.class, () -> TopK.smallest((IntSupplier) null, 10, 3));
+    }
+}
@@ -0,0 +1,65 @@
+package hash_table.benchmark;
+
+import hash_table.HashTable;
+import hash_table.core.HashStrategy;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to load a HashTable by repeated puts into a default table, by puts into a
+ * presized one, and by {@link HashTable#parallelBuild}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkLoadBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "STRINGS"})
+    private KeySet keySet;
+
+    private Object[] keys;
+
+    @Setup
+    public void generate() {
+        keys = keySet.keys(size);
+    }
+
+    @Benchmark
+    public HashTable<Object, Object> sequentialPut() {
+        HashTable<Object, Object> table = new HashTable<>();
+        for (Object key : keys) {
+            table.put(key, key);
+        }
+        return table;
+    }
+
+    @Benchmark
+    public HashTable<Object, Object> presizedPut() {
+        HashTable<Object, Object> table = new HashTable<>(size, 0.75);
+        for (Object key : keys) {
+            table.put(key, key);
+        }
+        return table;
+    }
+
+    @Benchmark
+    public HashTable<Object, Object> parallelBuild() {
+        return HashTable.parallelBuild(keys, keys, HashStrategy.defaultStrategy(), ForkJoinPool.commonPool());
+    }
+}
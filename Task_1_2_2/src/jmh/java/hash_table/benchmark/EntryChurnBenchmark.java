@@ -0,0 +1,62 @@
+package hash_table.benchmark;
+
+import hash_table.HashTable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sliding-window churn: every operation removes the oldest key and adds a new one, so
+ * the table stays at a fixed size while entries keep dying. Run with {@code -prof gc}
+ * and compare gc.alloc.rate.norm with and without an entry pool; the keys are created
+ * up front, so what remains is the table's own allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntryChurnBenchmark {
+    @Param({"10000"})
+    private int size;
+
+    @Param({"0", "1024"})
+    private int poolSize;
+
+    @Param({"SEQUENTIAL", "STRINGS"})
+    private KeySet keySet;
+
+    private Object[] keys;
+    private HashTable<Object, Object> table;
+    private int next;
+
+    @Setup
+    public void fill() {
+        keys = keySet.keys(size * 2);
+        table = new HashTable<>(size, 0.75);
+        table.setEntryPoolSize(poolSize);
+        for (int i = 0; i < size; i++) {
+            table.put(keys[i], keys[i]);
+        }
+        next = size;
+    }
+
+    @Benchmark
+    public boolean replaceOldest() {
+        Object added = keys[next];
+        boolean removed = table.removeIfPresent(keys[(next + size) % keys.length]);
+        table.put(added, added);
+        next = (next + 1) % keys.length;
+        return removed;
+    }
+}
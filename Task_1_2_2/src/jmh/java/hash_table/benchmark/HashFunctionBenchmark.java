@@ -0,0 +1,59 @@
+package hash_table.benchmark;
+
+import hash_table.HashTable;
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lookup cost of HashTable with raw and mixed hashes. Run
+ * {@link ProbeLengthDistribution} for the chain-length histograms behind the numbers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashFunctionBenchmark {
+    private static final int SIZE = 1 << 16;
+
+    @Param({"IDENTITY", "MIXED"})
+    private Strategies strategy;
+
+    @Param({"SEQUENTIAL", "STRIDED", "STRINGS"})
+    private KeySet keySet;
+
+    private HashTable<Object, Object> table;
+    private Object[] keys;
+
+    @Setup
+    public void fill() {
+        keys = keySet.keys(SIZE);
+        table = new HashTable<>(strategy.strategy());
+        for (Object key : keys) {
+            table.put(key, key);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void get(Blackhole blackhole) throws KeyNotFoundException, EmptyHashTableException {
+        for (Object key : keys) {
+            blackhole.consume(table.get(key));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package hash_table.benchmark;
+
+/**
+ * Key shapes used by the hash table benchmarks.
+ */
+public enum KeySet {
+    SEQUENTIAL {
+        @Override
+        public Object key(int i) {
+            return i;
+        }
+    },
+    STRIDED {
+        @Override
+        public Object key(int i) {
+            return i << 10;
+        }
+    },
+    STRINGS {
+        @Override
+        public Object key(int i) {
+            return "key-" + i;
+        }
+    },
+    /**
+     * Keys whose hash codes collide in groups of eight, as a poor user-written
+     * hashCode would.
+     */
+    SKEWED {
+        @Override
+        public Object key(int i) {
+            return new SkewedKey(i);
+        }
+    };
+
+    public abstract Object key(int i);
+
+    public Object[] keys(int size) {
+        Object[] keys = new Object[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = key(i);
+        }
+        return keys;
+    }
+
+    private static final class SkewedKey {
+        private final int id;
+
+        SkewedKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SkewedKey && ((SkewedKey) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id >>> 3;
+        }
+
+        @Override
+        public String toString() {
+            return "SkewedKey" + id;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package hash_table.benchmark;
+
+import hash_table.benchmark.MapImplementation.BenchmarkMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Baseline for storage changes: HashTable next to HashMap and ConcurrentHashMap on the
+ * same keys. Throughput mode gives ops/s and sample mode the latency percentiles
+ * (p0.99 and up); the gc profiler configured in the build adds gc.alloc.rate.norm, the
+ * bytes allocated per operation.
+ *
+ * <p>The default sizes keep a full run short. Larger ones are a parameter away, e.g.
+ * {@code -p size=50000000 -jvmArgs -Xmx16g}; at that size the build benchmarks dominate
+ * the run and are best selected alone. Only {@link #get} varies the hit ratio, through
+ * its own {@link Lookups} state, so the other benchmarks run once per map and size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapComparisonBenchmark {
+    private static final int LOOKUPS = 1 << 16;
+
+    @Param({"HASH_TABLE", "HASH_MAP", "CONCURRENT_HASH_MAP"})
+    private MapImplementation implementation;
+
+    @Param({"SEQUENTIAL", "STRINGS", "SKEWED"})
+    private KeySet keySet;
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private Object[] keys;
+    private BenchmarkMap map;
+    private int next;
+
+    /**
+     * Keys looked up by {@link #get}, a share of them absent from the map.
+     */
+    @State(Scope.Thread)
+    public static class Lookups {
+        /**
+         * Share of lookups for keys that are present.
+         */
+        @Param({"1.0", "0.5"})
+        private double hitRatio;
+
+        private Object[] keys;
+        private int next;
+
+        @Setup
+        public void fill(MapComparisonBenchmark benchmark) {
+            int size = benchmark.size;
+            Random random = new Random(42);
+            keys = new Object[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                keys[i] = random.nextDouble() < hitRatio
+                        ? benchmark.keys[random.nextInt(size)]
+                        : benchmark.keySet.key(size + random.nextInt(size));
+            }
+        }
+
+        Object next() {
+            next = (next + 1) & (LOOKUPS - 1);
+            return keys[next];
+        }
+    }
+
+    @Setup
+    public void fill() {
+        keys = keySet.keys(size);
+        map = implementation.create(0);
+        for (Object key : keys) {
+            map.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public Object get(Lookups lookups) {
+        return map.get(lookups.next());
+    }
+
+    /**
+     * Removes a present key and puts it back, so the size stays fixed.
+     */
+    @Benchmark
+    public boolean removeAndPut() {
+        next = (next + 1) % size;
+        Object key = keys[next];
+        boolean removed = map.remove(key);
+        map.put(key, key);
+        return removed;
+    }
+
+    @Benchmark
+    public long iterate() {
+        return map.sumValueHashes();
+    }
+
+    /**
+     * Fills a map from its default capacity, paying for every resize on the way.
+     */
+    @Benchmark
+    public BenchmarkMap buildWithResizes() {
+        BenchmarkMap built = implementation.create(0);
+        for (Object key : keys) {
+            built.put(key, key);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public BenchmarkMap buildPresized() {
+        BenchmarkMap built = implementation.create(size);
+        for (Object key : keys) {
+            built.put(key, key);
+        }
+        return built;
+    }
+}
@@ -0,0 +1,96 @@
+package hash_table.benchmark;
+
+import hash_table.HashTable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The maps {@link MapComparisonBenchmark} runs side by side, behind one small interface
+ * so every benchmark method calls the same operations on each. Lookups and removals of
+ * HashTable go through its exception-free methods, as a Map would.
+ */
+public enum MapImplementation {
+    HASH_TABLE {
+        @Override
+        public BenchmarkMap create(int expectedSize) {
+            HashTable<Object, Object> table = expectedSize == 0 ? new HashTable<>() : new HashTable<>(expectedSize, 0.75);
+            return new BenchmarkMap() {
+                @Override
+                public void put(Object key, Object value) {
+                    table.put(key, value);
+                }
+
+                @Override
+                public Object get(Object key) {
+                    return table.getOrDefault(key, null);
+                }
+
+                @Override
+                public boolean remove(Object key) {
+                    return table.removeIfPresent(key);
+                }
+
+                @Override
+                public long sumValueHashes() {
+                    long[] sum = new long[1];
+                    table.forEach((key, value) -> sum[0] += value.hashCode());
+                    return sum[0];
+                }
+            };
+        }
+    },
+    HASH_MAP {
+        @Override
+        public BenchmarkMap create(int expectedSize) {
+            return wrap(expectedSize == 0 ? new HashMap<>() : new HashMap<>((int) Math.ceil(expectedSize / 0.75)));
+        }
+    },
+    CONCURRENT_HASH_MAP {
+        @Override
+        public BenchmarkMap create(int expectedSize) {
+            return wrap(expectedSize == 0 ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(expectedSize));
+        }
+    };
+
+    /**
+     * Creates an empty map; an expected size of 0 leaves it at its default capacity.
+     */
+    public abstract BenchmarkMap create(int expectedSize);
+
+    public interface BenchmarkMap {
+        void put(Object key, Object value);
+
+        Object get(Object key);
+
+        boolean remove(Object key);
+
+        long sumValueHashes();
+    }
+
+    private static BenchmarkMap wrap(Map<Object, Object> map) {
+        return new BenchmarkMap() {
+            @Override
+            public void put(Object key, Object value) {
+                map.put(key, value);
+            }
+
+            @Override
+            public Object get(Object key) {
+                return map.get(key);
+            }
+
+            @Override
+            public boolean remove(Object key) {
+                return map.remove(key) != null;
+            }
+
+            @Override
+            public long sumValueHashes() {
+                long[] sum = new long[1];
+                map.forEach((key, value) -> sum[0] += value.hashCode());
+                return sum[0];
+            }
+        };
+    }
+}
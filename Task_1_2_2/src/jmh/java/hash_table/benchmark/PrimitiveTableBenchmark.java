@@ -0,0 +1,84 @@
+package hash_table.benchmark;
+
+import hash_table.HashTable;
+import hash_table.LongIntHashTable;
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * HashTable&lt;Long, Integer&gt; against LongIntHashTable. The fill benchmarks build a
+ * whole table per invocation, so the gc profiler's allocation per operation is the
+ * footprint per mapping.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveTableBenchmark {
+    private static final int SIZE = 1 << 16;
+
+    private long[] ids;
+    private HashTable<Long, Integer> boxed;
+    private LongIntHashTable primitive;
+
+    @Setup
+    public void fill() {
+        ids = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ids[i] = (long) i * 0x9E3779B97F4A7C15L;
+        }
+        boxed = fillBoxed();
+        primitive = fillPrimitive();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public HashTable<Long, Integer> fillBoxed() {
+        HashTable<Long, Integer> table = new HashTable<>();
+        for (int i = 0; i < SIZE; i++) {
+            table.put(ids[i], i);
+        }
+        return table;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public LongIntHashTable fillPrimitive() {
+        LongIntHashTable table = new LongIntHashTable();
+        for (int i = 0; i < SIZE; i++) {
+            table.put(ids[i], i);
+        }
+        return table;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getBoxed(Blackhole blackhole) throws KeyNotFoundException, EmptyHashTableException {
+        for (long id : ids) {
+            blackhole.consume((int) boxed.get(id));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getPrimitive(Blackhole blackhole) throws KeyNotFoundException, EmptyHashTableException {
+        for (long id : ids) {
+            blackhole.consume(primitive.get(id));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package hash_table.benchmark;
+
+import hash_table.HashTable;
+import hash_table.core.Entry;
+
+/**
+ * Prints the chain-length histogram of a HashTable for every key set and hash strategy.
+ * Run with {@code java -cp build/libs/Task_1_2_2-1.0-SNAPSHOT-jmh.jar hash_table.benchmark.ProbeLengthDistribution}.
+ */
+public class ProbeLengthDistribution {
+    private static final int SIZE = 1 << 16;
+    private static final int MAX_LENGTH = 16;
+
+    public static void main(String[] args) {
+        for (KeySet keySet : KeySet.values()) {
+            for (Strategies strategy : Strategies.values()) {
+                HashTable<Object, Object> table = new HashTable<>(strategy.strategy());
+                for (Object key : keySet.keys(SIZE)) {
+                    table.put(key, key);
+                }
+                print(keySet + "/" + strategy, table.getBuckets());
+            }
+        }
+    }
+
+    private static void print(String label, Entry<Object, Object>[] buckets) {
+        long[] histogram = new long[MAX_LENGTH + 1];
+        long probes = 0;
+        long entries = 0;
+        int max = 0;
+
+        for (Entry<Object, Object> head : buckets) {
+            int length = 0;
+            for (Entry<Object, Object> e = head; e != null; e = e.getNext()) {
+                length++;
+                probes += length;
+            }
+            entries += length;
+            max = Math.max(max, length);
+            histogram[Math.min(length, MAX_LENGTH)]++;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-22s avg probes %.2f, max chain %d, chains:", label,
+                entries == 0 ? 0.0 : (double) probes / entries, max));
+        for (int i = 0; i <= MAX_LENGTH; i++) {
+            if (histogram[i] != 0) {
+                sb.append(' ').append(i == MAX_LENGTH ? MAX_LENGTH + "+" : String.valueOf(i)).append('=').append(histogram[i]);
+            }
+        }
+        System.out.println(sb);
+    }
+}
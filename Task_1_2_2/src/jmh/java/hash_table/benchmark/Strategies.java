@@ -0,0 +1,24 @@
+package hash_table.benchmark;
+
+import hash_table.core.HashStrategy;
+
+/**
+ * Hash strategies compared by the benchmarks.
+ */
+public enum Strategies {
+    /**
+     * The raw hash code, as the table used before mixing was introduced.
+     */
+    IDENTITY(key -> key == null ? 0 : Math.abs(key.hashCode())),
+    MIXED(HashStrategy.defaultStrategy());
+
+    private final HashStrategy<Object> strategy;
+
+    Strategies(HashStrategy<Object> strategy) {
+        this.strategy = strategy;
+    }
+
+    public HashStrategy<Object> strategy() {
+        return strategy;
+    }
+}
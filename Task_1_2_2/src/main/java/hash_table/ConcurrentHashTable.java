@@ -0,0 +1,327 @@
+package hash_table;
+
+import hash_table.core.Entry;
+import hash_table.core.HashFunction;
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe hash table split into independently locked segments.
+ * Reads never lock: buckets are published through atomic arrays and nodes through
+ * volatile links. A write locks only the segment that owns the key, and a segment
+ * resizes under its own lock while the others keep serving writes.
+ * The iterator is weakly consistent and never throws {@link ConcurrentModificationException}.
+ */
+public class ConcurrentHashTable<K, V> implements Iterable<Entry<K, V>> {
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MAX_SEGMENTS = 1 << 16;
+    private static final int SEGMENT_CAPACITY = 4;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+
+    public ConcurrentHashTable() {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentHashTable(int concurrencyLevel) {
+        if (concurrencyLevel < 1) {
+            throw new IllegalArgumentException("Concurrency level must be positive: " + concurrencyLevel);
+        }
+        int count = 1;
+        while (count < Math.min(concurrencyLevel, MAX_SEGMENTS)) {
+            count <<= 1;
+        }
+
+        this.segments = (Segment<K, V>[]) new Segment[count];
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    public int getSegmentCount() {
+        return segments.length;
+    }
+
+    public void put(K key, V value) {
+        int hash = hash(key);
+        segmentFor(hash).put(key, hash, value, false);
+    }
+
+    public V get(K key) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot get from empty table");
+        }
+
+        int hash = hash(key);
+        Node<K, V> node = segmentFor(hash).find(key, hash);
+        if (node == null) {
+            throw new KeyNotFoundException(key);
+        }
+        return node.value;
+    }
+
+    public void update(K key, V value) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot update in empty table");
+        }
+
+        int hash = hash(key);
+        if (!segmentFor(hash).put(key, hash, value, true)) {
+            throw new KeyNotFoundException(key);
+        }
+    }
+
+    public V remove(K key) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot remove from empty table");
+        }
+
+        int hash = hash(key);
+        Node<K, V> removed = segmentFor(hash).remove(key, hash);
+        if (removed == null) {
+            throw new KeyNotFoundException(key);
+        }
+        return removed.value;
+    }
+
+    public boolean containsKey(K key) {
+        int hash = hash(key);
+        return segmentFor(hash).find(key, hash) != null;
+    }
+
+    /**
+     * Sum of the segment sizes; exact only while no writes are in flight.
+     */
+    public int getSize() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.count;
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty() {
+        for (Segment<K, V> segment : segments) {
+            if (segment.count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Returns a weakly consistent iterator: it reflects every mapping present when it
+     * was created that was not removed before being reached, may or may not reflect
+     * later changes, and never throws {@link ConcurrentModificationException}.
+     * Entries are snapshots; setting their value does not write through.
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new WeakIterator();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        boolean first = true;
+
+        for (Entry<K, V> entry : this) {
+            if (!first) {
+                sb.append(", ");
+            }
+            sb.append(entry.toString());
+            first = false;
+        }
+
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return HashFunction.mix(h);
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        // Segments use the high bits, buckets inside a segment the low ones.
+        return segments.length == 1 ? segments[0] : segments[(hash * 0x9E3779B9) >>> segmentShift];
+    }
+
+    private static final class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private static final class Segment<K, V> extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        volatile AtomicReferenceArray<Node<K, V>> table = new AtomicReferenceArray<>(SEGMENT_CAPACITY);
+        volatile int count;
+
+        Node<K, V> find(Object key, int hash) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            Node<K, V> node = tab.get(hash & (tab.length() - 1));
+
+            while (node != null) {
+                if (node.hash == hash && Objects.equals(node.key, key)) {
+                    return node;
+                }
+                node = node.next;
+            }
+            return null;
+        }
+
+        /**
+         * Stores the value; with {@code onlyIfPresent} a missing key is not inserted.
+         * Returns whether the key was present.
+         */
+        boolean put(K key, int hash, V value, boolean onlyIfPresent) {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> tab = table;
+                int index = hash & (tab.length() - 1);
+                Node<K, V> head = tab.get(index);
+
+                for (Node<K, V> node = head; node != null; node = node.next) {
+                    if (node.hash == hash && Objects.equals(node.key, key)) {
+                        node.value = value;
+                        return true;
+                    }
+                }
+                if (onlyIfPresent) {
+                    return false;
+                }
+
+                tab.set(index, new Node<>(hash, key, value, head));
+                count = count + 1;
+                if (count > tab.length() * LOAD_FACTOR) {
+                    resize(tab);
+                }
+                return false;
+            } finally {
+                unlock();
+            }
+        }
+
+        Node<K, V> remove(Object key, int hash) {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> tab = table;
+                int index = hash & (tab.length() - 1);
+                Node<K, V> prev = null;
+
+                for (Node<K, V> node = tab.get(index); node != null; node = node.next) {
+                    if (node.hash == hash && Objects.equals(node.key, key)) {
+                        if (prev == null) {
+                            tab.set(index, node.next);
+                        } else {
+                            prev.next = node.next;
+                        }
+                        count = count - 1;
+                        return node;
+                    }
+                    prev = node;
+                }
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        void clear() {
+            lock();
+            try {
+                table = new AtomicReferenceArray<>(SEGMENT_CAPACITY);
+                count = 0;
+            } finally {
+                unlock();
+            }
+        }
+
+        /**
+         * Copies every node into a table twice as large and publishes it. Nodes of the
+         * old table are never relinked, so readers still walking it stay consistent.
+         */
+        private void resize(AtomicReferenceArray<Node<K, V>> old) {
+            int newCapacity = old.length() * 2;
+            AtomicReferenceArray<Node<K, V>> tab = new AtomicReferenceArray<>(newCapacity);
+
+            for (int i = 0; i < old.length(); i++) {
+                for (Node<K, V> node = old.get(i); node != null; node = node.next) {
+                    int index = node.hash & (newCapacity - 1);
+                    tab.set(index, new Node<>(node.hash, node.key, node.value, tab.get(index)));
+                }
+            }
+            table = tab;
+        }
+    }
+
+    private final class WeakIterator implements Iterator<Entry<K, V>> {
+        private int segmentIndex = 0;
+        private AtomicReferenceArray<Node<K, V>> tab;
+        private int bucketIndex = 0;
+        private Node<K, V> next;
+
+        WeakIterator() {
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException("No more elements in iterator");
+            }
+            Node<K, V> result = next;
+            next = result.next;
+            if (next == null) {
+                advance();
+            }
+            return new Entry<>(result.key, result.value);
+        }
+
+        private void advance() {
+            while (segmentIndex < segments.length) {
+                if (tab == null) {
+                    tab = segments[segmentIndex].table;
+                    bucketIndex = 0;
+                }
+                while (bucketIndex < tab.length()) {
+                    next = tab.get(bucketIndex++);
+                    if (next != null) {
+                        return;
+                    }
+                }
+                tab = null;
+                segmentIndex++;
+            }
+        }
+    }
+}
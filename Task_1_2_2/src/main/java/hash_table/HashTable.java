@@ -1,27 +1,203 @@
 package hash_table;
 
 import hash_table.core.Entry;
+import hash_table.core.EntryPool;
 import hash_table.core.HashFunction;
+import hash_table.core.HashStrategy;
+import hash_table.core.LinkedEntry;
+import hash_table.core.TreeBucket;
 import hash_table.exception.EmptyHashTableException;
 import hash_table.exception.KeyNotFoundException;
 import hash_table.iterator.HashTableIterator;
+import hash_table.iterator.HashTableSpliterator;
+import hash_table.iterator.LinkedHashTableIterator;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class HashTable<K, V> implements Iterable<Entry<K, V>> {
     private Entry<K, V>[] buckets;
+    private TreeBucket<K, V>[] trees;
+    private Entry<K, V>[] oldBuckets;
+    private TreeBucket<K, V>[] oldTrees;
+    private int oldCapacity;
+    private int migrateIndex;
     private int size;
     private int capacity;
     private int modCount = 0;
+    private final HashStrategy<? super K> hashStrategy;
+    private final double loadFactor;
+    private final int migrationStep;
+
+    // Where the last findEntry stopped, so the insert or unlink that follows it does not
+    // walk the bucket again. On a miss foundLength is the length of the current bucket.
+    private Entry<K, V>[] foundBuckets;
+    private TreeBucket<K, V>[] foundTrees;
+    private int foundIndex;
+    private int foundHash;
+    private Entry<K, V> foundPrev;
+    private int foundLength;
+
+    // Buckets of sharedBuckets whose bit is set are still referenced by a snapshot and
+    // are copied before their first change.
+    private Entry<K, V>[] sharedBuckets;
+    private BitSet shared;
+
+    private EntryPool<K, V> entryPool;
+
+    // Operation counters, null unless statistics are enabled.
+    private Counters counters;
+
+    // Oldest and newest entry of an insertion-ordered table, linked through before/after.
+    private final boolean insertionOrdered;
+    private LinkedEntry<K, V> first;
+    private LinkedEntry<K, V> last;
+
+    // Entries ordered by sortedComparator as of sortedModCount, sorted again by the
+    // first ordered read after a structural change.
+    private Entry<K, V>[] sortedIndex;
+    private Comparator<? super K> sortedComparator;
+    private int sortedModCount;
+
     private static final int DEFAULT_CAPACITY = 16;
-    private static final double LOAD_FACTOR = 0.75;
-    private static final double MIN_LOAD_FACTOR = 0.25;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int SHRINK_DIVISOR = 6;
+    private static final int MIN_PARALLEL_CHUNK = 1 << 14;
+    private static final int MIGRATION_STEP = 8;
+    static final int TREEIFY_THRESHOLD = 8;
+    static final int UNTREEIFY_THRESHOLD = 6;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> NATURAL_ORDER = Comparator.nullsFirst((Comparator) Comparator.naturalOrder());
+
+    private static final class Counters {
+        long lookups;
+        long hits;
+        long probes;
+        long inserts;
+        long removals;
+        long rehashes;
+        long rehashNanos;
+    }
 
     public HashTable() {
-        this.capacity = DEFAULT_CAPACITY;
+        this(HashStrategy.defaultStrategy());
+    }
+
+    public HashTable(HashStrategy<? super K> hashStrategy) {
+        this(0, DEFAULT_LOAD_FACTOR, hashStrategy);
+    }
+
+    public HashTable(int expectedSize, double loadFactor) {
+        this(expectedSize, loadFactor, HashStrategy.defaultStrategy());
+    }
+
+    /**
+     * Creates a table that holds {@code expectedSize} mappings without resizing and
+     * grows once its size exceeds {@code loadFactor} times the bucket count.
+     */
+    public HashTable(int expectedSize, double loadFactor, HashStrategy<? super K> hashStrategy) {
+        this(expectedSize, loadFactor, hashStrategy, false);
+    }
+
+    /**
+     * Like {@link #HashTable(int, double, HashStrategy)}; an insertion-ordered table also
+     * links its entries from oldest to newest and iterates in that order. Replacing the
+     * value of a key keeps its position.
+     */
+    public HashTable(int expectedSize, double loadFactor, HashStrategy<? super K> hashStrategy,
+                     boolean insertionOrdered) {
+        if (hashStrategy == null) {
+            throw new IllegalArgumentException("Hash strategy must not be null");
+        }
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        if (!(loadFactor > 0) || Double.isInfinite(loadFactor)) {
+            throw new IllegalArgumentException("Load factor must be positive: " + loadFactor);
+        }
+        this.hashStrategy = hashStrategy;
+        this.loadFactor = loadFactor;
+        this.insertionOrdered = insertionOrdered;
+        this.migrationStep = migrationStepFor(loadFactor);
+        this.capacity = capacityFor(expectedSize);
         this.buckets = createBuckets(capacity);
         this.size = 0;
     }
 
+    /**
+     * Builds a table from parallel key and value arrays on the common fork-join pool.
+     * Later duplicates of a key win, as with repeated puts.
+     */
+    public static <K, V> HashTable<K, V> parallelBuild(K[] keys, V[] values) {
+        return parallelBuild(keys, values, HashStrategy.defaultStrategy(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds a table from parallel key and value arrays on {@code parallelism} threads,
+     * using the common fork-join pool when its parallelism matches and a pool of its own
+     * otherwise. See {@link #parallelBuild(Object[], Object[], HashStrategy, ForkJoinPool)}.
+     */
+    public static <K, V> HashTable<K, V> parallelBuild(K[] keys, V[] values, HashStrategy<? super K> hashStrategy,
+                                                      int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        ForkJoinPool common = ForkJoinPool.commonPool();
+        if (parallelism == common.getParallelism()) {
+            return parallelBuild(keys, values, hashStrategy, common);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return parallelBuild(keys, values, hashStrategy, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Builds a table from parallel key and value arrays as up to
+     * {@code pool.getParallelism()} tasks on {@code pool}, which stays open for reuse.
+     * The input is hashed in slices, partitioned by bucket range, and every partition
+     * fills its own run of buckets, so the threads never share a bucket and the finished
+     * runs form the table without any merging. The strategy is called concurrently.
+     */
+    public static <K, V> HashTable<K, V> parallelBuild(K[] keys, V[] values, HashStrategy<? super K> hashStrategy,
+                                                      ForkJoinPool pool) {
+        if (keys == null || values == null || keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values must be non-null arrays of equal length");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+
+        HashTable<K, V> table = new HashTable<>(keys.length, DEFAULT_LOAD_FACTOR, hashStrategy);
+        int tasks = Math.min(pool.getParallelism(), Math.max(1, keys.length / MIN_PARALLEL_CHUNK));
+        if (tasks == 1) {
+            for (int i = 0; i < keys.length; i++) {
+                table.put(keys[i], values[i]);
+            }
+            return table;
+        }
+
+        table.load(keys, values, tasks, pool);
+        return table;
+    }
+
+    public double getLoadFactor() {
+        return loadFactor;
+    }
+
     public int getModCount() {
         return modCount;
     }
@@ -30,27 +206,89 @@ public class HashTable<K, V> implements Iterable<Entry<K, V>> {
         return buckets;
     }
 
-    public void put(K key, V value) {
-        int index = HashFunction.hash(key, capacity);
-        Entry<K, V> current = buckets[index];
+    /**
+     * Returns the buckets still being drained by an incremental rehash, or null when
+     * no rehash is in progress. Buckets that were already migrated are null.
+     */
+    public Entry<K, V>[] getOldBuckets() {
+        return oldBuckets;
+    }
 
-        while (current != null) {
-            if (Objects.equals(current.getKey(), key)) {
-                current.setValue(value);
-                return;
-            }
-            current = current.getNext();
+    public boolean isRehashing() {
+        return oldBuckets != null;
+    }
+
+    public boolean isInsertionOrdered() {
+        return insertionOrdered;
+    }
+
+    /**
+     * Returns the oldest entry of an insertion-ordered table, or null if the table is
+     * empty or not insertion-ordered.
+     */
+    public LinkedEntry<K, V> getFirstEntry() {
+        return first;
+    }
+
+    /**
+     * Keeps up to {@code maxPooled} removed entries for reuse by later puts; 0, the
+     * default, turns pooling off. Only worth it when keys are removed and added at a
+     * high rate. With pooling on, an entry obtained from an iterator or a stream must
+     * not be used after its key is removed, as it may come back holding another key.
+     */
+    public void setEntryPoolSize(int maxPooled) {
+        if (maxPooled < 0) {
+            throw new IllegalArgumentException("Pool size must not be negative: " + maxPooled);
         }
+        entryPool = maxPooled == 0 ? null : new EntryPool<>(maxPooled, insertionOrdered);
+    }
 
-        Entry<K, V> newEntry = new Entry<>(key, value);
-        newEntry.setNext(buckets[index]);
-        buckets[index] = newEntry;
-        size++;
-        modCount++;
+    /**
+     * Turns the operation counters reported by {@link #getStats()} on or off. They are
+     * off by default, which costs one null check per operation. Enabling keeps any
+     * counts from before; disabling drops them.
+     */
+    public void setStatisticsEnabled(boolean enabled) {
+        if (!enabled) {
+            counters = null;
+        } else if (counters == null) {
+            counters = new Counters();
+        }
+    }
 
-        if (size > capacity * LOAD_FACTOR) {
-            resize();
+    public boolean isStatisticsEnabled() {
+        return counters != null;
+    }
+
+    /**
+     * Returns the current chain-length distribution together with the operation
+     * counters, which are zero while statistics are disabled. The distribution is
+     * computed by walking every bucket. Called from another thread, for example
+     * through {@link HashTableMonitor}, the figures are read without synchronization
+     * and may be slightly out of date.
+     */
+    public HashTableStats getStats() {
+        long[] histogram = new long[HashTableStats.HISTOGRAM_SIZE];
+        int[] maxChainLength = new int[1];
+        Entry<K, V>[] old = oldBuckets;
+        if (old != null) {
+            countChains(old, migrateIndex, histogram, maxChainLength);
+        }
+        countChains(buckets, 0, histogram, maxChainLength);
+
+        Counters c = counters == null ? new Counters() : counters;
+        return new HashTableStats(size, capacity, histogram, maxChainLength[0], countTrees(trees) + countTrees(oldTrees),
+                c.lookups, c.hits, c.probes, c.inserts, c.removals, c.rehashes, c.rehashNanos);
+    }
+
+    public void put(K key, V value) {
+        int hash = hashStrategy.hash(key);
+        Entry<K, V> existing = findForWrite(key, hash);
+        if (existing != null) {
+            existing.setValue(value);
+            return;
         }
+        insert(key, value, hash);
     }
 
     public V get(K key) throws KeyNotFoundException, EmptyHashTableException {
@@ -58,16 +296,11 @@ public class HashTable<K, V> implements Iterable<Entry<K, V>> {
             throw new EmptyHashTableException("Cannot get from empty table");
         }
 
-        int index = HashFunction.hash(key, capacity);
-        Entry<K, V> current = buckets[index];
-
-        while (current != null) {
-            if (Objects.equals(current.getKey(), key)) {
-                return current.getValue();
-            }
-            current = current.getNext();
+        Entry<K, V> entry = findEntry(key, hashStrategy.hash(key));
+        if (entry == null) {
+            throw new KeyNotFoundException(key);
         }
-        throw new KeyNotFoundException(key);
+        return entry.getValue();
     }
 
     public void update(K key, V value) throws KeyNotFoundException, EmptyHashTableException {
@@ -75,18 +308,12 @@ public class HashTable<K, V> implements Iterable<Entry<K, V>> {
             throw new EmptyHashTableException("Cannot update in empty table");
         }
 
-        int index = HashFunction.hash(key, capacity);
-        Entry<K, V> current = buckets[index];
-
-        while (current != null) {
-            if (Objects.equals(current.getKey(), key)) {
-                current.setValue(value);
-                modCount++;
-                return;
-            }
-            current = current.getNext();
+        Entry<K, V> entry = findForWrite(key, hashStrategy.hash(key));
+        if (entry == null) {
+            throw new KeyNotFoundException(key);
         }
-        throw new KeyNotFoundException(key);
+        entry.setValue(value);
+        modCount++;
     }
 
     public V remove(K key) throws KeyNotFoundException, EmptyHashTableException {
@@ -94,40 +321,134 @@ public class HashTable<K, V> implements Iterable<Entry<K, V>> {
             throw new EmptyHashTableException("Cannot remove from empty table");
         }
 
-        int index = HashFunction.hash(key, capacity);
-        Entry<K, V> current = buckets[index];
-        Entry<K, V> prev = null;
+        Entry<K, V> entry = findForWrite(key, hashStrategy.hash(key));
+        if (entry == null) {
+            throw new KeyNotFoundException(key);
+        }
+        return delete(entry);
+    }
 
-        while (current != null) {
-            if (Objects.equals(current.getKey(), key)) {
-                if (prev == null) {
-                    buckets[index] = current.getNext();
-                } else {
-                    prev.setNext(current.getNext());
-                }
-                size--;
-                modCount++;
+    public boolean containsKey(K key) {
+        return findEntry(key, hashStrategy.hash(key)) != null;
+    }
 
-                checkShrink();
-                return current.getValue();
-            }
-            prev = current;
-            current = current.getNext();
+    /**
+     * Copies every mapping of {@code map}, sizing the table for the result first so the
+     * copy triggers at most one rehash.
+     */
+    public void putAll(Map<? extends K, ? extends V> map) {
+        ensureCapacity(size + map.size());
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
         }
-        throw new KeyNotFoundException(key);
     }
 
-    public boolean containsKey(K key) {
-        int index = HashFunction.hash(key, capacity);
-        Entry<K, V> current = buckets[index];
+    /**
+     * Copies the given entries, sizing the table for {@code sizeHint} more mappings first.
+     * The hint only affects performance.
+     */
+    public void putAll(Iterable<? extends Entry<? extends K, ? extends V>> entries, int sizeHint) {
+        ensureCapacity(size + Math.max(0, sizeHint));
+        for (Entry<? extends K, ? extends V> entry : entries) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
 
-        while (current != null) {
-            if (Objects.equals(current.getKey(), key)) {
-                return true;
+    /**
+     * Grows the table, if needed, so that {@code expectedSize} mappings fit without
+     * another resize.
+     */
+    public void ensureCapacity(int expectedSize) {
+        int needed = capacityFor(expectedSize);
+        if (needed > capacity) {
+            rehash(needed);
+        }
+    }
+
+    /*
+     * The methods below never throw for a missing key and walk the key's bucket once.
+     * Like java.util.Map, they treat a key mapped to null as absent, and a function
+     * returning null leaves the key unmapped.
+     */
+
+    public V getOrDefault(K key, V defaultValue) {
+        Entry<K, V> entry = findEntry(key, hashStrategy.hash(key));
+        return entry == null ? defaultValue : entry.getValue();
+    }
+
+    /**
+     * Maps the key to the value unless it already has a non-null value, which is returned.
+     */
+    public V putIfAbsent(K key, V value) {
+        int hash = hashStrategy.hash(key);
+        Entry<K, V> entry = findForWrite(key, hash);
+        if (entry == null) {
+            insert(key, value, hash);
+            return null;
+        }
+
+        V current = entry.getValue();
+        if (current == null) {
+            entry.setValue(value);
+        }
+        return current;
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        int hash = hashStrategy.hash(key);
+        Entry<K, V> entry = findForWrite(key, hash);
+        if (entry != null && entry.getValue() != null) {
+            return entry.getValue();
+        }
+
+        V value = apply(() -> mappingFunction.apply(key));
+        if (value != null) {
+            if (entry == null) {
+                insert(key, value, hash);
+            } else {
+                entry.setValue(value);
             }
-            current = current.getNext();
         }
-        return false;
+        return value;
+    }
+
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int hash = hashStrategy.hash(key);
+        Entry<K, V> entry = findForWrite(key, hash);
+        V current = entry == null ? null : entry.getValue();
+
+        V value = apply(() -> remappingFunction.apply(key, current));
+        store(entry, key, hash, value);
+        return value;
+    }
+
+    /**
+     * Maps an absent key to {@code value}; otherwise combines the current value with it.
+     */
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null");
+        }
+
+        int hash = hashStrategy.hash(key);
+        Entry<K, V> entry = findForWrite(key, hash);
+        V current = entry == null ? null : entry.getValue();
+
+        V merged = current == null ? value : apply(() -> remappingFunction.apply(current, value));
+        store(entry, key, hash, merged);
+        return merged;
+    }
+
+    /**
+     * Removes the key if it is present and reports whether it was.
+     */
+    public boolean removeIfPresent(K key) {
+        Entry<K, V> entry = findForWrite(key, hashStrategy.hash(key));
+        if (entry == null) {
+            return false;
+        }
+        delete(entry);
+        return true;
     }
 
     public int getSize() {
@@ -145,14 +466,139 @@ public class HashTable<K, V> implements Iterable<Entry<K, V>> {
         } else {
             Arrays.fill(buckets, null);
         }
+        trees = null;
+        oldBuckets = null;
+        oldTrees = null;
+        sharedBuckets = null;
+        shared = null;
+        first = null;
+        last = null;
+        sortedIndex = null;
         size = 0;
         modCount++;
     }
 
 
+    /**
+     * Returns a consistent image of the current mappings in time proportional to the
+     * bucket count, not the size. The table keeps serving writes: a bucket is copied
+     * the first time a table method changes it after the snapshot, so the snapshot's
+     * entries are never touched again and it may be read from another thread once
+     * handed over safely. Values set through entries from an iterator or a stream
+     * bypass the copying. A running incremental rehash is finished first.
+     */
+    public HashTableSnapshot<K, V> snapshot() {
+        while (oldBuckets != null) {
+            migrate();
+        }
+        sharedBuckets = buckets;
+        shared = new BitSet(capacity);
+        shared.set(0, capacity);
+        return new HashTableSnapshot<>(buckets.clone(), size, loadFactor);
+    }
+
+    /**
+     * Returns the entries ordered by key, using keys' natural order with null first.
+     * See {@link #sortedEntries(Comparator)}.
+     */
+    public Collection<Entry<K, V>> sortedEntries() {
+        return sortedEntries(NATURAL_ORDER);
+    }
+
+    /**
+     * Returns an unmodifiable live view of the entries ordered by {@code comparator}.
+     * The table keeps one array of its entries sorted by the last comparator used,
+     * compared by identity; a read sorts it again only after a put of a new key, a
+     * remove or a snapshot copy, so puts and removes pay nothing for it and repeated
+     * ordered reads of an unchanged table allocate only the iterator. The comparator
+     * must be consistent with equals: sorting throws IllegalArgumentException if it
+     * treats two keys of the table as equal.
+     */
+    public Collection<Entry<K, V>> sortedEntries(Comparator<? super K> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+        sortedIndex(comparator);
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return sortedIterator(sortedIndex(comparator));
+            }
+
+            @Override
+            public int size() {
+                return getSize();
+            }
+        };
+    }
+
+    /**
+     * Frees the sorted entry array; the next ordered read sorts again.
+     */
+    public void dropSortedIndex() {
+        sortedIndex = null;
+        sortedComparator = null;
+    }
+
+    /**
+     * Returns an iterator in insertion order for an insertion-ordered table, otherwise
+     * in bucket order.
+     */
     @Override
     public Iterator<Entry<K, V>> iterator() {
-        return new HashTableIterator<>(this, capacity);
+        if (insertionOrdered) {
+            return new LinkedHashTableIterator<>(this);
+        }
+        return new HashTableIterator<>(this);
+    }
+
+    /**
+     * Splits by bucket range, or, for an insertion-ordered table, reports ORDERED and
+     * splits off batches of the linked entries.
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        if (insertionOrdered) {
+            return Spliterators.spliterator(iterator(), size,
+                    Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        }
+        return new HashTableSpliterator<>(this);
+    }
+
+    /**
+     * Returns a sequential stream over the live entries; setting an entry's value
+     * writes through to the table. The table must not be structurally modified while
+     * the stream runs.
+     */
+    public Stream<Entry<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream whose parts cover disjoint bucket ranges.
+     */
+    public Stream<Entry<K, V>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Passes every key and value to {@code action} without creating entry copies.
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        int expectedModCount = modCount;
+        if (insertionOrdered) {
+            for (LinkedEntry<K, V> e = first; e != null; e = e.getAfter()) {
+                action.accept(e.getKey(), e.getValue());
+            }
+        } else {
+            if (oldBuckets != null) {
+                forEachIn(oldBuckets, action);
+            }
+            forEachIn(buckets, action);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
     }
 
     @Override
@@ -198,8 +644,343 @@ public class HashTable<K, V> implements Iterable<Entry<K, V>> {
         return sb.toString();
     }
 
-    private void resize() {
-        rehash(capacity * 2);
+    /**
+     * Like findEntry, but first gives the key's bucket its own copy of any chain a
+     * snapshot still shares, so the caller may change it.
+     */
+    private Entry<K, V> findForWrite(K key, int hash) {
+        Entry<K, V> entry = findEntry(key, hash);
+        if (isShared(foundBuckets, foundIndex)) {
+            unshare(foundIndex);
+            entry = findEntry(key, hash);
+        }
+        return entry;
+    }
+
+    private boolean isShared(Entry<K, V>[] buckets, int index) {
+        return shared != null && buckets == sharedBuckets && shared.get(index);
+    }
+
+    /**
+     * Replaces a bucket of the shared array with a copy of its entries, rebuilding
+     * its tree if it has one.
+     */
+    private void unshare(int index) {
+        TreeBucket<K, V>[] sharedTrees = sharedBuckets == buckets ? trees : oldTrees;
+        Entry<K, V> head = null;
+        Entry<K, V> tail = null;
+        for (Entry<K, V> e = sharedBuckets[index]; e != null; e = e.getNext()) {
+            Entry<K, V> copy = newEntry(e.getKey(), e.getValue(), e.getHash());
+            // Only the ordering links of the snapshot's entries change, which it never reads.
+            if (insertionOrdered) {
+                replaceInOrder((LinkedEntry<K, V>) e, (LinkedEntry<K, V>) copy);
+            }
+            if (tail == null) {
+                head = copy;
+            } else {
+                tail.setNext(copy);
+            }
+            tail = copy;
+        }
+
+        sharedBuckets[index] = head;
+        // The sorted entries include the originals, which now belong to the snapshot.
+        sortedIndex = null;
+        if (sharedTrees != null && sharedTrees[index] != null) {
+            sharedTrees[index] = TreeBucket.treeify(head);
+            sharedBuckets[index] = sharedTrees[index].getHead();
+        }
+        shared.clear(index);
+    }
+
+    private Entry<K, V> findEntry(K key, int hash) {
+        int probes = 0;
+        if (oldBuckets != null) {
+            Entry<K, V> entry = findIn(oldBuckets, oldTrees, hash & (oldCapacity - 1), key, hash);
+            if (entry != null) {
+                recordLookup(true, foundLength + 1);
+                return entry;
+            }
+            probes = foundLength;
+        }
+        Entry<K, V> entry = findIn(buckets, trees, hash & (capacity - 1), key, hash);
+        recordLookup(entry != null, probes + foundLength + (entry != null ? 1 : 0));
+        return entry;
+    }
+
+    /**
+     * Counts a lookup that compared {@code probes} chain entries; a tree bucket
+     * counts as one.
+     */
+    private void recordLookup(boolean hit, int probes) {
+        if (counters != null) {
+            counters.lookups++;
+            counters.probes += probes;
+            if (hit) {
+                counters.hits++;
+            }
+        }
+    }
+
+    private Entry<K, V> findIn(Entry<K, V>[] buckets, TreeBucket<K, V>[] trees, int index, K key, int hash) {
+        foundBuckets = buckets;
+        foundTrees = trees;
+        foundIndex = index;
+        foundHash = hash;
+        foundPrev = null;
+        foundLength = 0;
+
+        if (trees != null && trees[index] != null) {
+            return trees[index].find(key, hash);
+        }
+
+        Entry<K, V> current = buckets[index];
+        while (current != null) {
+            if (current.getHash() == hash && Objects.equals(current.getKey(), key)) {
+                return current;
+            }
+            foundPrev = current;
+            foundLength++;
+            current = current.getNext();
+        }
+        return null;
+    }
+
+    /**
+     * Adds a mapping for a key the preceding findEntry call did not find.
+     */
+    private void insert(K key, V value, int hash) {
+        Entry<K, V> entry = entryPool == null ? newEntry(key, value, hash) : entryPool.acquire(key, value, hash);
+        link(entry, hash, foundLength);
+        if (insertionOrdered) {
+            LinkedEntry<K, V> linked = (LinkedEntry<K, V>) entry;
+            linked.setBefore(last);
+            if (last == null) {
+                first = linked;
+            } else {
+                last.setAfter(linked);
+            }
+            last = linked;
+        }
+        if (counters != null) {
+            counters.inserts++;
+        }
+        size++;
+        modCount++;
+        migrate();
+
+        if (size > capacity * loadFactor) {
+            resize();
+        }
+    }
+
+    /**
+     * Removes the entry the preceding findEntry call returned and returns its value.
+     * The entry goes back to the pool, if there is one.
+     */
+    private V delete(Entry<K, V> entry) {
+        TreeBucket<K, V> tree = foundTrees == null ? null : foundTrees[foundIndex];
+        if (tree != null) {
+            tree.remove(entry.getKey(), foundHash);
+            foundBuckets[foundIndex] = tree.getHead();
+            if (tree.size() <= UNTREEIFY_THRESHOLD) {
+                foundTrees[foundIndex] = null;
+            }
+        } else if (foundPrev == null) {
+            foundBuckets[foundIndex] = entry.getNext();
+        } else {
+            foundPrev.setNext(entry.getNext());
+        }
+
+        if (insertionOrdered) {
+            unlinkOrder((LinkedEntry<K, V>) entry);
+        }
+        if (counters != null) {
+            counters.removals++;
+        }
+        size--;
+        modCount++;
+        migrate();
+        checkShrink();
+
+        V value = entry.getValue();
+        if (entryPool != null) {
+            entryPool.release(entry);
+        }
+        return value;
+    }
+
+    /**
+     * Applies the outcome of a remapping function to the entry found for the key.
+     */
+    private void store(Entry<K, V> entry, K key, int hash, V value) {
+        if (value == null) {
+            if (entry != null) {
+                delete(entry);
+            }
+        } else if (entry == null) {
+            insert(key, value, hash);
+        } else {
+            entry.setValue(value);
+        }
+    }
+
+    /**
+     * Returns the entries sorted by {@code comparator}, sorting a fresh array if the
+     * current one is missing, stale or ordered by another comparator. A fresh array is
+     * never sorted in place, so iterators over an older one stay intact.
+     */
+    private Entry<K, V>[] sortedIndex(Comparator<? super K> comparator) {
+        if (sortedIndex != null && sortedComparator == comparator && sortedModCount == modCount) {
+            return sortedIndex;
+        }
+
+        Entry<K, V>[] entries = createBuckets(size);
+        int count = 0;
+        for (Entry<K, V> entry : this) {
+            entries[count++] = entry;
+        }
+        Comparator<Entry<K, V>> byKey = (a, b) -> comparator.compare(a.getKey(), b.getKey());
+        Arrays.sort(entries, byKey);
+        for (int i = 1; i < count; i++) {
+            if (byKey.compare(entries[i - 1], entries[i]) == 0) {
+                throw new IllegalArgumentException("Comparator treats " + entries[i - 1].getKey() + " and "
+                        + entries[i].getKey() + " as equal");
+            }
+        }
+
+        sortedIndex = entries;
+        sortedComparator = comparator;
+        sortedModCount = modCount;
+        return entries;
+    }
+
+    private Iterator<Entry<K, V>> sortedIterator(Entry<K, V>[] entries) {
+        int expectedModCount = modCount;
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < entries.length;
+            }
+
+            @Override
+            public Entry<K, V> next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (index >= entries.length) {
+                    throw new NoSuchElementException();
+                }
+                return entries[index++];
+            }
+        };
+    }
+
+    /**
+     * Creates an entry of the kind this table links: a {@link LinkedEntry} when it is
+     * insertion-ordered, a plain one otherwise.
+     */
+    private Entry<K, V> newEntry(K key, V value, int hash) {
+        return insertionOrdered ? new LinkedEntry<>(key, value, hash) : new Entry<>(key, value, hash);
+    }
+
+    private void unlinkOrder(LinkedEntry<K, V> entry) {
+        LinkedEntry<K, V> before = entry.getBefore();
+        LinkedEntry<K, V> after = entry.getAfter();
+        if (before == null) {
+            first = after;
+        } else {
+            before.setAfter(after);
+        }
+        if (after == null) {
+            last = before;
+        } else {
+            after.setBefore(before);
+        }
+        entry.setBefore(null);
+        entry.setAfter(null);
+    }
+
+    private void replaceInOrder(LinkedEntry<K, V> entry, LinkedEntry<K, V> copy) {
+        LinkedEntry<K, V> before = entry.getBefore();
+        LinkedEntry<K, V> after = entry.getAfter();
+        copy.setBefore(before);
+        copy.setAfter(after);
+        if (before == null) {
+            first = copy;
+        } else {
+            before.setAfter(copy);
+        }
+        if (after == null) {
+            last = copy;
+        } else {
+            after.setBefore(copy);
+        }
+    }
+
+    /**
+     * Runs a user function, which must not modify the table: that would invalidate the
+     * position the caller found. The function may read the table, so the position is
+     * saved and restored around it.
+     */
+    private V apply(Supplier<? extends V> function) {
+        int expectedModCount = modCount;
+        Entry<K, V>[] savedBuckets = foundBuckets;
+        TreeBucket<K, V>[] savedTrees = foundTrees;
+        int savedIndex = foundIndex;
+        int savedHash = foundHash;
+        Entry<K, V> savedPrev = foundPrev;
+        int savedLength = foundLength;
+
+        V value = function.get();
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        foundBuckets = savedBuckets;
+        foundTrees = savedTrees;
+        foundIndex = savedIndex;
+        foundHash = savedHash;
+        foundPrev = savedPrev;
+        foundLength = savedLength;
+        return value;
+    }
+
+    /**
+     * Adds an entry whose key is absent to the current bucket array, whose chain at
+     * the key's index is {@code length} entries long.
+     */
+    private void link(Entry<K, V> entry, int hash, int length) {
+        int index = hash & (capacity - 1);
+        if (trees != null && trees[index] != null) {
+            trees[index].insert(entry, hash);
+            buckets[index] = trees[index].getHead();
+            return;
+        }
+
+        entry.setNext(buckets[index]);
+        buckets[index] = entry;
+        if (length >= TREEIFY_THRESHOLD) {
+            treeify(index);
+        }
+    }
+
+    private int chainLength(int index) {
+        int length = 0;
+        for (Entry<K, V> e = buckets[index]; e != null && length < TREEIFY_THRESHOLD; e = e.getNext()) {
+            length++;
+        }
+        return length;
+    }
+
+    private void treeify(int index) {
+        if (trees == null) {
+            trees = createTrees(capacity);
+        }
+        trees[index] = TreeBucket.treeify(buckets[index]);
+        buckets[index] = trees[index].getHead();
     }
 
     @SuppressWarnings("unchecked")
@@ -207,8 +988,66 @@ public class HashTable<K, V> implements Iterable<Entry<K, V>> {
         return new Entry[capacity];
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private TreeBucket<K, V>[] createTrees(int capacity) {
+        return (TreeBucket<K, V>[]) new TreeBucket[capacity];
+    }
+
+    private static <K, V> void forEachIn(Entry<K, V>[] buckets, BiConsumer<? super K, ? super V> action) {
+        for (Entry<K, V> head : buckets) {
+            for (Entry<K, V> e = head; e != null; e = e.getNext()) {
+                action.accept(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    private static void countChains(Entry<?, ?>[] buckets, int from, long[] histogram, int[] maxChainLength) {
+        for (int i = from; i < buckets.length; i++) {
+            int length = 0;
+            for (Entry<?, ?> e = buckets[i]; e != null; e = e.getNext()) {
+                length++;
+            }
+            histogram[Math.min(length, histogram.length - 1)]++;
+            maxChainLength[0] = Math.max(maxChainLength[0], length);
+        }
+    }
+
+    private static int countTrees(TreeBucket<?, ?>[] trees) {
+        int count = 0;
+        if (trees != null) {
+            for (TreeBucket<?, ?> tree : trees) {
+                if (tree != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Buckets to migrate per operation. After growing from c buckets at least c times
+     * the load factor inserts pass before the next growth, and after shrinking from c
+     * buckets at least a third of that pass before the table grows again; moving 4 /
+     * loadFactor buckets per operation drains the old table within either window.
+     */
+    private static int migrationStepFor(double loadFactor) {
+        return (int) Math.max(MIGRATION_STEP, Math.min(Integer.MAX_VALUE, Math.ceil(4 / loadFactor)));
+    }
+
+    private int capacityFor(int expectedSize) {
+        int needed = (int) Math.min(1 << 30, Math.ceil(expectedSize / loadFactor));
+        return Math.max(DEFAULT_CAPACITY, HashFunction.tableSizeFor(needed));
+    }
+
+    private void resize() {
+        rehash(capacity * 2);
+    }
+
     private void checkShrink() {
-        if (capacity > DEFAULT_CAPACITY && size < capacity * MIN_LOAD_FACTOR) {
+        // Shrinking halves the table to at least a third of the load factor, well clear
+        // of both thresholds, so alternating puts and removes cannot make it grow and
+        // shrink back and forth.
+        if (oldBuckets == null && capacity > DEFAULT_CAPACITY && size < capacity * loadFactor / SHRINK_DIVISOR) {
             shrink();
         }
     }
@@ -220,25 +1059,205 @@ public class HashTable<K, V> implements Iterable<Entry<K, V>> {
         }
     }
 
+    /**
+     * Starts an incremental rehash: the current buckets become the old table and
+     * every later put or remove moves up to {@code migrationStep} of its buckets, so a
+     * rehash started by growing or shrinking completes before the next one can be
+     * triggered. Only ensureCapacity, putAll and snapshot can find one still running;
+     * they finish it as part of their own bulk work.
+     */
     private void rehash(int newCapacity) {
-        Entry<K, V>[] oldBuckets = buckets;
-        int oldCapacity = capacity;
+        while (oldBuckets != null) {
+            migrate();
+        }
+
+        long start = counters == null ? 0 : System.nanoTime();
+        oldBuckets = buckets;
+        oldTrees = trees;
+        oldCapacity = capacity;
+        migrateIndex = 0;
 
         capacity = newCapacity;
         buckets = createBuckets(capacity);
-        size = 0;
+        trees = null;
+        modCount++;
+        if (counters != null) {
+            counters.rehashes++;
+            counters.rehashNanos += System.nanoTime() - start;
+        }
+    }
 
-        for (int i = 0; i < oldCapacity; i++) {
-            Entry<K, V> current = oldBuckets[i];
+    private void migrate() {
+        if (oldBuckets == null) {
+            return;
+        }
+
+        long start = counters == null ? 0 : System.nanoTime();
+        int end = migrateIndex + Math.min(migrationStep, oldCapacity - migrateIndex);
+        for (; migrateIndex < end; migrateIndex++) {
+            if (isShared(oldBuckets, migrateIndex)) {
+                unshare(migrateIndex);
+            }
+            Entry<K, V> current = oldBuckets[migrateIndex];
             while (current != null) {
                 Entry<K, V> next = current.getNext();
-                int newIndex = HashFunction.hash(current.getKey(), capacity);
-                current.setNext(buckets[newIndex]);
-                buckets[newIndex] = current;
-                size++;
+                int hash = current.getHash();
+                link(current, hash, chainLength(hash & (capacity - 1)));
                 current = next;
             }
+            oldBuckets[migrateIndex] = null;
+            if (oldTrees != null) {
+                oldTrees[migrateIndex] = null;
+            }
+        }
+
+        if (migrateIndex == oldCapacity) {
+            if (sharedBuckets == oldBuckets) {
+                sharedBuckets = null;
+                shared = null;
+            }
+            oldBuckets = null;
+            oldTrees = null;
+        }
+        if (counters != null) {
+            counters.rehashNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Fills this empty table from the arrays on {@code tasks} workers of the pool:
+     * hash and count per slice, scatter indices by partition, then build each
+     * partition's run of buckets.
+     */
+    private void load(K[] keys, V[] values, int tasks, ForkJoinPool pool) {
+        int n = keys.length;
+        int partitions = Integer.highestOneBit(tasks);
+        int shift = Integer.numberOfTrailingZeros(capacity) - Integer.numberOfTrailingZeros(partitions);
+        int mask = capacity - 1;
+        int[] hashes = new int[n];
+        int[][] offsets = new int[tasks][partitions];
+
+        invokeAll(pool, tasks, slice -> {
+            for (int i = sliceStart(slice, tasks, n); i < sliceStart(slice + 1, tasks, n); i++) {
+                hashes[i] = hashStrategy.hash(keys[i]);
+                offsets[slice][(hashes[i] & mask) >>> shift]++;
+            }
+            return null;
+        });
+
+        int[] partitionStart = new int[partitions + 1];
+        int position = 0;
+        for (int p = 0; p < partitions; p++) {
+            partitionStart[p] = position;
+            for (int slice = 0; slice < tasks; slice++) {
+                int count = offsets[slice][p];
+                offsets[slice][p] = position;
+                position += count;
+            }
+        }
+        partitionStart[partitions] = n;
+
+        int[] order = new int[n];
+        invokeAll(pool, tasks, slice -> {
+            for (int i = sliceStart(slice, tasks, n); i < sliceStart(slice + 1, tasks, n); i++) {
+                order[offsets[slice][(hashes[i] & mask) >>> shift]++] = i;
+            }
+            return null;
+        });
+
+        List<Map<Integer, TreeBucket<K, V>>> partitionTrees = invokeAll(pool, partitions, p -> {
+            Map<Integer, TreeBucket<K, V>> localTrees = new HashMap<>();
+            int added = 0;
+            for (int j = partitionStart[p]; j < partitionStart[p + 1]; j++) {
+                int i = order[j];
+                if (loadInto(keys[i], values[i], hashes[i], localTrees)) {
+                    added++;
+                }
+            }
+            synchronized (this) {
+                size += added;
+            }
+            return localTrees;
+        });
+
+        for (Map<Integer, TreeBucket<K, V>> localTrees : partitionTrees) {
+            if (!localTrees.isEmpty() && trees == null) {
+                trees = createTrees(capacity);
+            }
+            for (Map.Entry<Integer, TreeBucket<K, V>> tree : localTrees.entrySet()) {
+                trees[tree.getKey()] = tree.getValue();
+            }
         }
         modCount++;
     }
+
+    /**
+     * Puts one mapping into a bucket owned by the calling load worker, treeifying into
+     * the worker's own map. Returns whether the key was new.
+     */
+    private boolean loadInto(K key, V value, int hash, Map<Integer, TreeBucket<K, V>> localTrees) {
+        int index = hash & (capacity - 1);
+        TreeBucket<K, V> tree = localTrees.get(index);
+        if (tree != null) {
+            Entry<K, V> existing = tree.find(key, hash);
+            if (existing != null) {
+                existing.setValue(value);
+                return false;
+            }
+            tree.insert(new Entry<>(key, value, hash), hash);
+            buckets[index] = tree.getHead();
+            return true;
+        }
+
+        int length = 0;
+        for (Entry<K, V> e = buckets[index]; e != null; e = e.getNext()) {
+            if (e.getHash() == hash && Objects.equals(e.getKey(), key)) {
+                e.setValue(value);
+                return false;
+            }
+            length++;
+        }
+
+        Entry<K, V> entry = new Entry<>(key, value, hash);
+        entry.setNext(buckets[index]);
+        buckets[index] = entry;
+        if (length >= TREEIFY_THRESHOLD) {
+            tree = TreeBucket.treeify(buckets[index]);
+            localTrees.put(index, tree);
+            buckets[index] = tree.getHead();
+        }
+        return true;
+    }
+
+    private static int sliceStart(int slice, int slices, int n) {
+        return (int) ((long) n * slice / slices);
+    }
+
+    private static <T> List<T> invokeAll(ForkJoinPool pool, int count, IntFunction<T> task) {
+        List<Callable<T>> calls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            calls.add(() -> task.apply(index));
+        }
+
+        List<T> results = new ArrayList<>(count);
+        for (Future<T> future : pool.invokeAll(calls)) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while building table", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+        return results;
+    }
 }
@@ -0,0 +1,14 @@
+package hash_table;
+
+/**
+ * Management interface of a {@link HashTable}, implemented by {@link HashTableMonitor}.
+ * JMX clients see the statistics as one composite attribute, so every poll walks the
+ * buckets once.
+ */
+public interface HashTableMXBean {
+    HashTableStats getStats();
+
+    boolean isStatisticsEnabled();
+
+    void setStatisticsEnabled(boolean enabled);
+}
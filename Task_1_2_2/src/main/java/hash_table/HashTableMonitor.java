@@ -0,0 +1,45 @@
+package hash_table;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Exposes a table's statistics over JMX. The table itself stays unsynchronized, so the
+ * figures a monitoring thread reads may lag behind the owning thread slightly.
+ */
+public class HashTableMonitor implements HashTableMXBean {
+    private final HashTable<?, ?> table;
+
+    public HashTableMonitor(HashTable<?, ?> table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Table must not be null");
+        }
+        this.table = table;
+    }
+
+    /**
+     * Registers a monitor for {@code table} with the platform MBean server under
+     * {@code hash_table:type=HashTable,name=<name>} and returns that name.
+     */
+    public static ObjectName register(HashTable<?, ?> table, String name) throws JMException {
+        ObjectName objectName = new ObjectName("hash_table:type=HashTable,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(new HashTableMonitor(table), objectName);
+        return objectName;
+    }
+
+    @Override
+    public HashTableStats getStats() {
+        return table.getStats();
+    }
+
+    @Override
+    public boolean isStatisticsEnabled() {
+        return table.isStatisticsEnabled();
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean enabled) {
+        table.setStatisticsEnabled(enabled);
+    }
+}
@@ -0,0 +1,197 @@
+package hash_table;
+
+import hash_table.core.Codec;
+import hash_table.core.Entry;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.*;
+
+/**
+ * Immutable image of a {@link HashTable} taken by {@link HashTable#snapshot()}, and the
+ * compact binary format it is saved in.
+ *
+ * <p>The format is a header of magic, version, key width, value width, entry count and
+ * the table's load factor, followed by one record per entry: a flags byte marking a null key or value, then the
+ * encoded key and value, each left out when null. The count comes first so that
+ * {@link #read} can size the table once before streaming the records in. Version 1
+ * files, which have no load factor, are still read, with the default of 0.75. Both
+ * directions go through one direct buffer, so the channel sees few large operations.
+ */
+public class HashTableSnapshot<K, V> implements Iterable<Entry<K, V>> {
+    private static final int MAGIC = 0x48545350;
+    private static final int VERSION = 2;
+    private static final int V1_HEADER_BYTES = 24;
+    private static final int HEADER_BYTES = V1_HEADER_BYTES + Double.BYTES;
+    private static final double V1_LOAD_FACTOR = 0.75;
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final byte NULL_KEY = 1;
+    private static final byte NULL_VALUE = 2;
+
+    private final Entry<K, V>[] buckets;
+    private final int size;
+    private final double loadFactor;
+
+    HashTableSnapshot(Entry<K, V>[] buckets, int size, double loadFactor) {
+        this.buckets = buckets;
+        this.size = size;
+        this.loadFactor = loadFactor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the load factor of the table the snapshot was taken of.
+     */
+    public double getLoadFactor() {
+        return loadFactor;
+    }
+
+    /**
+     * Returns an iterator over entry copies; setting their value changes nothing.
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new Iterator<>() {
+            private int bucketIndex = 0;
+            private Entry<K, V> current = advance(null);
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public Entry<K, V> next() {
+                if (current == null) {
+                    throw new NoSuchElementException("No more elements in iterator");
+                }
+                Entry<K, V> result = new Entry<>(current.getKey(), current.getValue());
+                current = advance(current.getNext());
+                return result;
+            }
+
+            private Entry<K, V> advance(Entry<K, V> next) {
+                while (next == null && bucketIndex < buckets.length) {
+                    next = buckets[bucketIndex++];
+                }
+                return next;
+            }
+        };
+    }
+
+    /**
+     * Writes the snapshot to {@code channel} with the given codecs. The channel is
+     * neither flushed nor closed.
+     */
+    public void write(WritableByteChannel channel, Codec<? super K> keyCodec, Codec<? super V> valueCodec)
+            throws IOException {
+        int keyWidth = keyCodec.width();
+        int valueWidth = valueCodec.width();
+        int recordBytes = 1 + keyWidth + valueWidth;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(BUFFER_BYTES, Math.max(HEADER_BYTES, recordBytes)));
+
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(keyWidth).putInt(valueWidth).putLong(size).putDouble(loadFactor);
+        for (Entry<K, V> head : buckets) {
+            for (Entry<K, V> e = head; e != null; e = e.getNext()) {
+                if (buffer.remaining() < recordBytes) {
+                    drain(channel, buffer);
+                }
+                K key = e.getKey();
+                V value = e.getValue();
+                buffer.put((byte) ((key == null ? NULL_KEY : 0) | (value == null ? NULL_VALUE : 0)));
+                if (key != null) {
+                    encode(keyCodec, key, buffer);
+                }
+                if (value != null) {
+                    encode(valueCodec, value, buffer);
+                }
+            }
+        }
+        drain(channel, buffer);
+    }
+
+    /**
+     * Reads a snapshot written with codecs of the same widths into a new table with the
+     * source table's load factor, sized for its entry count.
+     */
+    public static <K, V> HashTable<K, V> read(ReadableByteChannel channel, Codec<K> keyCodec, Codec<V> valueCodec)
+            throws IOException {
+        int keyWidth = keyCodec.width();
+        int valueWidth = valueCodec.width();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(BUFFER_BYTES, 1 + keyWidth + valueWidth));
+        buffer.limit(0);
+
+        fill(channel, buffer, V1_HEADER_BYTES);
+        int version = buffer.getInt() == MAGIC ? buffer.getInt() : -1;
+        if (version != 1 && version != VERSION) {
+            throw new IOException("Not a hash table snapshot of version 1 to " + VERSION);
+        }
+        int storedKeyWidth = buffer.getInt();
+        int storedValueWidth = buffer.getInt();
+        if (storedKeyWidth != keyWidth || storedValueWidth != valueWidth) {
+            throw new IOException("Snapshot holds " + storedKeyWidth + "-byte keys and " + storedValueWidth
+                    + "-byte values, codecs use " + keyWidth + " and " + valueWidth);
+        }
+        long count = buffer.getLong();
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IOException("Corrupt entry count: " + count);
+        }
+        double loadFactor = V1_LOAD_FACTOR;
+        if (version >= 2) {
+            fill(channel, buffer, Double.BYTES);
+            loadFactor = buffer.getDouble();
+            if (!(loadFactor > 0) || Double.isInfinite(loadFactor)) {
+                throw new IOException("Corrupt load factor: " + loadFactor);
+            }
+        }
+
+        HashTable<K, V> table = new HashTable<>((int) count, loadFactor);
+        for (long i = 0; i < count; i++) {
+            fill(channel, buffer, 1);
+            byte flags = buffer.get();
+            fill(channel, buffer, ((flags & NULL_KEY) != 0 ? 0 : keyWidth) + ((flags & NULL_VALUE) != 0 ? 0 : valueWidth));
+            K key = (flags & NULL_KEY) != 0 ? null : keyCodec.decode(buffer);
+            V value = (flags & NULL_VALUE) != 0 ? null : valueCodec.decode(buffer);
+            table.put(key, value);
+        }
+        return table;
+    }
+
+    private static <T> void encode(Codec<? super T> codec, T value, ByteBuffer buffer) {
+        int start = buffer.position();
+        codec.encode(value, buffer);
+        if (buffer.position() - start != codec.width()) {
+            throw new IllegalStateException("Codec wrote " + (buffer.position() - start)
+                    + " bytes instead of " + codec.width());
+        }
+    }
+
+    private static void drain(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Makes at least {@code bytes} unread bytes available in the buffer.
+     */
+    private static void fill(ReadableByteChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Snapshot ends early");
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,158 @@
+package hash_table;
+
+import java.util.*;
+
+/**
+ * Point-in-time statistics of a {@link HashTable}, returned by
+ * {@link HashTable#getStats()}. The chain figures describe the buckets when the
+ * statistics were taken; the counters cover the time since statistics were enabled.
+ * A bucket in the middle of an incremental rehash is counted in the array it is in.
+ */
+public class HashTableStats {
+    /**
+     * Length of the chain-length histogram; its last slot counts every chain of at
+     * least {@code HISTOGRAM_SIZE - 1} entries.
+     */
+    public static final int HISTOGRAM_SIZE = 16;
+
+    private final int size;
+    private final int capacity;
+    private final long[] chainLengthHistogram;
+    private final int maxChainLength;
+    private final int treeBucketCount;
+    private final long lookupCount;
+    private final long hitCount;
+    private final long probeCount;
+    private final long insertCount;
+    private final long removeCount;
+    private final long rehashCount;
+    private final long rehashTimeNanos;
+
+    HashTableStats(int size, int capacity, long[] chainLengthHistogram, int maxChainLength, int treeBucketCount,
+                   long lookupCount, long hitCount, long probeCount, long insertCount, long removeCount,
+                   long rehashCount, long rehashTimeNanos) {
+        this.size = size;
+        this.capacity = capacity;
+        this.chainLengthHistogram = chainLengthHistogram;
+        this.maxChainLength = maxChainLength;
+        this.treeBucketCount = treeBucketCount;
+        this.lookupCount = lookupCount;
+        this.hitCount = hitCount;
+        this.probeCount = probeCount;
+        this.insertCount = insertCount;
+        this.removeCount = removeCount;
+        this.rehashCount = rehashCount;
+        this.rehashTimeNanos = rehashTimeNanos;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Mappings per bucket of the current array.
+     */
+    public double getLoad() {
+        return (double) size / capacity;
+    }
+
+    /**
+     * Number of buckets holding 0, 1, 2, ... entries, with longer chains in the last slot.
+     */
+    public long[] getChainLengthHistogram() {
+        return chainLengthHistogram.clone();
+    }
+
+    public long getNonEmptyBucketCount() {
+        long count = 0;
+        for (int i = 1; i < chainLengthHistogram.length; i++) {
+            count += chainLengthHistogram[i];
+        }
+        return count;
+    }
+
+    /**
+     * Mean length of the non-empty chains.
+     */
+    public double getAverageChainLength() {
+        long nonEmpty = getNonEmptyBucketCount();
+        return nonEmpty == 0 ? 0 : (double) size / nonEmpty;
+    }
+
+    public int getMaxChainLength() {
+        return maxChainLength;
+    }
+
+    /**
+     * Buckets whose chain is indexed by a tree because too many keys collided there.
+     */
+    public int getTreeBucketCount() {
+        return treeBucketCount;
+    }
+
+    /**
+     * Key searches, one per get, put, update, remove or other single-key operation.
+     */
+    public long getLookupCount() {
+        return lookupCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return lookupCount - hitCount;
+    }
+
+    /**
+     * Mean number of chain entries compared per lookup.
+     */
+    public double getAverageProbeLength() {
+        return lookupCount == 0 ? 0 : (double) probeCount / lookupCount;
+    }
+
+    public long getInsertCount() {
+        return insertCount;
+    }
+
+    public long getRemoveCount() {
+        return removeCount;
+    }
+
+    /**
+     * Number of rehashes started, growing or shrinking.
+     */
+    public long getRehashCount() {
+        return rehashCount;
+    }
+
+    /**
+     * Time spent in rehashing, including the bucket migration spread over later operations.
+     */
+    public long getRehashTimeNanos() {
+        return rehashTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "HashTableStats{size=" + size
+                + ", capacity=" + capacity
+                + ", maxChainLength=" + maxChainLength
+                + ", averageChainLength=" + String.format(Locale.ROOT, "%.3f", getAverageChainLength())
+                + ", chainLengthHistogram=" + Arrays.toString(chainLengthHistogram)
+                + ", treeBuckets=" + treeBucketCount
+                + ", lookups=" + lookupCount
+                + ", hits=" + hitCount
+                + ", averageProbeLength=" + String.format(Locale.ROOT, "%.3f", getAverageProbeLength())
+                + ", inserts=" + insertCount
+                + ", removes=" + removeCount
+                + ", rehashes=" + rehashCount
+                + ", rehashTimeNanos=" + rehashTimeNanos
+                + "}";
+    }
+}
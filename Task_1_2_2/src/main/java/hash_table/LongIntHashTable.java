@@ -0,0 +1,330 @@
+package hash_table;
+
+import hash_table.core.HashFunction;
+import hash_table.core.LongIntConsumer;
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import java.util.*;
+
+/**
+ * Hash table from {@code long} keys to {@code int} values without boxing or entry
+ * objects: keys and values live in parallel primitive arrays probed linearly, and
+ * removal uses backward-shift deletion like {@link OpenAddressingHashTable}.
+ * Key 0 marks an empty slot, so a mapping for key 0 is kept beside the arrays.
+ */
+public class LongIntHashTable {
+    private static final long EMPTY = 0L;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.7;
+    private static final double MIN_LOAD_FACTOR = 0.2;
+
+    private long[] keys;
+    private int[] values;
+    private boolean hasEmptyKey;
+    private int emptyKeyValue;
+    private int size;
+    private int capacity;
+
+    public LongIntHashTable() {
+        this(0);
+    }
+
+    /**
+     * Creates a table that holds {@code expectedSize} mappings without resizing.
+     */
+    public LongIntHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        this.capacity = Math.max(DEFAULT_CAPACITY, HashFunction.tableSizeFor((int) Math.ceil(expectedSize / LOAD_FACTOR)));
+        allocate(capacity);
+        this.size = 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            if (!hasEmptyKey) {
+                hasEmptyKey = true;
+                size++;
+            }
+            emptyKeyValue = value;
+            return;
+        }
+
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] = value;
+            return;
+        }
+        insert(-1 - slot, key, value);
+    }
+
+    /**
+     * Adds {@code delta} to the value of {@code key}, treating a missing key as 0,
+     * and returns the new value.
+     */
+    public int addTo(long key, int delta) {
+        if (key == EMPTY) {
+            if (!hasEmptyKey) {
+                hasEmptyKey = true;
+                emptyKeyValue = 0;
+                size++;
+            }
+            return emptyKeyValue += delta;
+        }
+
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return values[slot] += delta;
+        }
+        insert(-1 - slot, key, delta);
+        return delta;
+    }
+
+    public int get(long key) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot get from empty table");
+        }
+
+        if (key == EMPTY) {
+            if (!hasEmptyKey) {
+                throw new KeyNotFoundException(key);
+            }
+            return emptyKeyValue;
+        }
+
+        int slot = slotOf(key);
+        if (slot < 0) {
+            throw new KeyNotFoundException(key);
+        }
+        return values[slot];
+    }
+
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == EMPTY) {
+            return hasEmptyKey ? emptyKeyValue : defaultValue;
+        }
+        int slot = slotOf(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    public void update(long key, int value) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot update in empty table");
+        }
+
+        if (key == EMPTY) {
+            if (!hasEmptyKey) {
+                throw new KeyNotFoundException(key);
+            }
+            emptyKeyValue = value;
+            return;
+        }
+
+        int slot = slotOf(key);
+        if (slot < 0) {
+            throw new KeyNotFoundException(key);
+        }
+        values[slot] = value;
+    }
+
+    public int remove(long key) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot remove from empty table");
+        }
+
+        if (key == EMPTY) {
+            if (!hasEmptyKey) {
+                throw new KeyNotFoundException(key);
+            }
+            hasEmptyKey = false;
+            size--;
+            return emptyKeyValue;
+        }
+
+        int slot = slotOf(key);
+        if (slot < 0) {
+            throw new KeyNotFoundException(key);
+        }
+
+        int value = values[slot];
+        deleteSlot(slot);
+        size--;
+
+        checkShrink();
+        return value;
+    }
+
+    public boolean containsKey(long key) {
+        return key == EMPTY ? hasEmptyKey : slotOf(key) >= 0;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        if (capacity > DEFAULT_CAPACITY * 4) {
+            capacity = DEFAULT_CAPACITY;
+            allocate(capacity);
+        } else {
+            Arrays.fill(keys, EMPTY);
+        }
+        hasEmptyKey = false;
+        size = 0;
+    }
+
+    /**
+     * Passes every mapping to {@code action} in slot order, without boxing.
+     */
+    public void forEach(LongIntConsumer action) {
+        if (hasEmptyKey) {
+            action.accept(EMPTY, emptyKeyValue);
+        }
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        LongIntHashTable other = (LongIntHashTable) o;
+        if (size != other.size) return false;
+        if (hasEmptyKey && (!other.hasEmptyKey || emptyKeyValue != other.emptyKeyValue)) return false;
+
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] == EMPTY) {
+                continue;
+            }
+            int otherSlot = other.slotOf(keys[i]);
+            if (otherSlot < 0 || values[i] != other.values[otherSlot]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sums key hash XOR value hash over the mappings, as a {@code Map<Long, Integer>} with
+     * the same mappings would.
+     */
+    @Override
+    public int hashCode() {
+        int hash = hasEmptyKey ? Long.hashCode(EMPTY) ^ Integer.hashCode(emptyKeyValue) : 0;
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != EMPTY) {
+                hash += Long.hashCode(keys[i]) ^ Integer.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or {@code -1 - slot} of the empty slot
+     * where it would be inserted.
+     */
+    private int slotOf(long key) {
+        int mask = capacity - 1;
+        int index = HashFunction.mix(key) & mask;
+        long current;
+
+        while ((current = keys[index]) != EMPTY) {
+            if (current == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1 - index;
+    }
+
+    private void insert(int slot, long key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+
+        if (size > capacity * LOAD_FACTOR) {
+            rehash(capacity * 2);
+        }
+    }
+
+    private void deleteSlot(int hole) {
+        int mask = capacity - 1;
+        int index = hole;
+
+        while (true) {
+            index = (index + 1) & mask;
+            if (keys[index] == EMPTY) {
+                break;
+            }
+
+            int home = HashFunction.mix(keys[index]) & mask;
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = values[index];
+                hole = index;
+            }
+        }
+
+        keys[hole] = EMPTY;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+    }
+
+    private void checkShrink() {
+        if (capacity > DEFAULT_CAPACITY && size < capacity * MIN_LOAD_FACTOR) {
+            rehash(Math.max(DEFAULT_CAPACITY, capacity / 2));
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        int oldCapacity = capacity;
+
+        capacity = newCapacity;
+        allocate(capacity);
+        int mask = capacity - 1;
+
+        for (int i = 0; i < oldCapacity; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int index = HashFunction.mix(oldKeys[i]) & mask;
+            while (keys[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+    }
+}
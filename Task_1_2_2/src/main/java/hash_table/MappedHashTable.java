@@ -0,0 +1,522 @@
+package hash_table;
+
+import hash_table.core.Codec;
+import hash_table.core.Entry;
+import hash_table.core.HashFunction;
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Hash table stored in a memory-mapped file, so its contents stay off the Java heap and
+ * survive restarts: reopening a file maps it again without rebuilding anything.
+ *
+ * <p>Keys and values are serialized by fixed-width {@link Codec}s into slots probed
+ * linearly with backward-shift deletion. A slot holds a used flag, the key's hash, the
+ * key bytes and the value bytes; keys are hashed and compared in encoded form, so no
+ * key is decoded during a lookup. The slots are mapped in segments of at most 1 GiB,
+ * which lets a table outgrow a single buffer. Growing writes a new file next to the old
+ * one and moves it into place. The table does not shrink. Null keys and values are
+ * rejected and the table is not thread-safe.
+ */
+public class MappedHashTable<K, V> implements Iterable<Entry<K, V>>, Closeable {
+    private static final int MAGIC = 0x48544D46;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int CAPACITY_AT = 16;
+    private static final int SIZE_AT = 24;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final double LOAD_FACTOR = 0.7;
+    private static final long SEGMENT_BYTES = 1L << 30;
+
+    private static final int HASH = 1;
+    private static final int KEY = HASH + Integer.BYTES;
+
+    private final Path path;
+    private final Codec<K> keyCodec;
+    private final Codec<V> valueCodec;
+    private final int keyWidth;
+    private final int valueWidth;
+    private final int slotWidth;
+    private final long segmentBytes;
+    private final ByteBuffer keyBytes;
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private Slots slots;
+    private int capacity;
+    private int size;
+    private int modCount = 0;
+
+    private MappedHashTable(Path path, Codec<K> keyCodec, Codec<V> valueCodec, int expectedSize,
+                            long segmentBytes) throws IOException {
+        if (path == null || keyCodec == null || valueCodec == null) {
+            throw new IllegalArgumentException("Path and codecs must not be null");
+        }
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        this.path = path;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.keyWidth = keyCodec.width();
+        this.valueWidth = valueCodec.width();
+        this.slotWidth = KEY + keyWidth + valueWidth;
+        this.segmentBytes = segmentBytes;
+        this.keyBytes = ByteBuffer.allocate(keyWidth);
+
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                capacity = capacityFor(expectedSize);
+                header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+                writeHeader();
+            } else {
+                readHeader();
+            }
+            slots = map(channel, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static <K, V> MappedHashTable<K, V> open(Path path, Codec<K> keyCodec, Codec<V> valueCodec)
+            throws IOException {
+        return open(path, keyCodec, valueCodec, 0);
+    }
+
+    /**
+     * Opens the table stored at {@code path}, creating it with room for
+     * {@code expectedSize} mappings if the file is missing or empty. An existing file
+     * must have been written with codecs of the same widths.
+     */
+    public static <K, V> MappedHashTable<K, V> open(Path path, Codec<K> keyCodec, Codec<V> valueCodec,
+                                                    int expectedSize) throws IOException {
+        return new MappedHashTable<>(path, keyCodec, valueCodec, expectedSize, SEGMENT_BYTES);
+    }
+
+    static <K, V> MappedHashTable<K, V> open(Path path, Codec<K> keyCodec, Codec<V> valueCodec,
+                                             int expectedSize, long segmentBytes) throws IOException {
+        return new MappedHashTable<>(path, keyCodec, valueCodec, expectedSize, segmentBytes);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getModCount() {
+        return modCount;
+    }
+
+    public void put(K key, V value) throws IOException {
+        int hash = encodeKey(key);
+        requireValue(value);
+
+        int slot = find(hash);
+        if (slot >= 0) {
+            writeValue(slot, value);
+            return;
+        }
+
+        if (size == capacity - 1) {
+            throw new IllegalStateException("Table is full at " + size + " mappings");
+        }
+        slot = -1 - slot;
+        ByteBuffer buffer = slots.buffer(slot);
+        int base = slots.base(slot);
+        buffer.putInt(base + HASH, hash);
+        buffer.put(base + KEY, keyBytes, 0, keyWidth);
+        writeValue(slot, value);
+        buffer.put(base, (byte) 1);
+
+        size++;
+        modCount++;
+        header.putLong(SIZE_AT, size);
+
+        if (size > capacity * LOAD_FACTOR && capacity < MAX_CAPACITY) {
+            rehash(capacity * 2);
+        }
+    }
+
+    public V get(K key) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot get from empty table");
+        }
+
+        int slot = find(encodeKey(key));
+        if (slot < 0) {
+            throw new KeyNotFoundException(key);
+        }
+        return readValue(slot);
+    }
+
+    public void update(K key, V value) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot update in empty table");
+        }
+
+        int slot = find(encodeKey(key));
+        if (slot < 0) {
+            throw new KeyNotFoundException(key);
+        }
+        requireValue(value);
+        writeValue(slot, value);
+        modCount++;
+    }
+
+    public V remove(K key) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot remove from empty table");
+        }
+
+        int slot = find(encodeKey(key));
+        if (slot < 0) {
+            throw new KeyNotFoundException(key);
+        }
+
+        V value = readValue(slot);
+        deleteSlot(slot);
+        size--;
+        modCount++;
+        header.putLong(SIZE_AT, size);
+        return value;
+    }
+
+    public boolean containsKey(K key) {
+        return find(encodeKey(key)) >= 0;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (int slot = 0; slot < capacity; slot++) {
+            slots.buffer(slot).put(slots.base(slot), (byte) 0);
+        }
+        size = 0;
+        modCount++;
+        header.putLong(SIZE_AT, size);
+    }
+
+    /**
+     * Writes every change made through the mappings to the file.
+     */
+    public void flush() {
+        header.force();
+        for (MappedByteBuffer segment : slots.segments) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Flushes the table and closes the file. The table must not be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            flush();
+            channel.close();
+        }
+    }
+
+    /**
+     * Returns a fail-fast iterator over decoded {@link Entry} snapshots; setting their
+     * value does not write through to the file.
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new SlotIterator();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        boolean first = true;
+
+        for (Entry<K, V> entry : this) {
+            if (!first) {
+                sb.append(", ");
+            }
+            sb.append(entry.toString());
+            first = false;
+        }
+
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.min(MAX_CAPACITY, Math.ceil(expectedSize / LOAD_FACTOR));
+        return Math.max(DEFAULT_CAPACITY, HashFunction.tableSizeFor(needed));
+    }
+
+    private void writeHeader() {
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putInt(8, keyWidth);
+        header.putInt(12, valueWidth);
+        header.putLong(CAPACITY_AT, capacity);
+        header.putLong(SIZE_AT, size);
+    }
+
+    private void readHeader() throws IOException {
+        if (channel.size() < HEADER_BYTES) {
+            throw new IOException("File is too short for a table header: " + path);
+        }
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a hash table file of version " + VERSION + ": " + path);
+        }
+        if (header.getInt(8) != keyWidth || header.getInt(12) != valueWidth) {
+            throw new IOException("File holds " + header.getInt(8) + "-byte keys and " + header.getInt(12)
+                    + "-byte values, codecs use " + keyWidth + " and " + valueWidth + ": " + path);
+        }
+
+        long storedCapacity = header.getLong(CAPACITY_AT);
+        long storedSize = header.getLong(SIZE_AT);
+        if (storedCapacity < DEFAULT_CAPACITY || storedCapacity > MAX_CAPACITY
+                || Long.bitCount(storedCapacity) != 1 || storedSize < 0 || storedSize > storedCapacity
+                || channel.size() < HEADER_BYTES + storedCapacity * slotWidth) {
+            throw new IOException("Corrupt table header: " + path);
+        }
+        capacity = (int) storedCapacity;
+        size = (int) storedSize;
+    }
+
+    private Slots map(FileChannel channel, int capacity) throws IOException {
+        int perSegment = (int) Math.min(capacity, Math.max(1, segmentBytes / slotWidth));
+        MappedByteBuffer[] segments = new MappedByteBuffer[(capacity + perSegment - 1) / perSegment];
+
+        for (int i = 0; i < segments.length; i++) {
+            int count = Math.min(perSegment, capacity - i * perSegment);
+            long position = HEADER_BYTES + (long) i * perSegment * slotWidth;
+            segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) count * slotWidth);
+        }
+        return new Slots(segments, perSegment, slotWidth);
+    }
+
+    /**
+     * Encodes the key into the scratch buffer and returns the hash of its bytes.
+     */
+    private int encodeKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key must not be null");
+        }
+        keyBytes.clear();
+        keyCodec.encode(key, keyBytes);
+        if (keyBytes.position() != keyWidth) {
+            throw new IllegalStateException("Key codec wrote " + keyBytes.position() + " bytes instead of " + keyWidth);
+        }
+
+        int h = 1;
+        for (int i = 0; i < keyWidth; i++) {
+            h = 31 * h + keyBytes.get(i);
+        }
+        return HashFunction.mix(h);
+    }
+
+    private void requireValue(V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null");
+        }
+    }
+
+    /**
+     * Returns the slot holding the encoded key, or {@code -1 - slot} of the empty slot
+     * where it would be inserted.
+     */
+    private int find(int hash) {
+        int mask = capacity - 1;
+        int slot = hash & mask;
+
+        while (true) {
+            ByteBuffer buffer = slots.buffer(slot);
+            int base = slots.base(slot);
+            if (buffer.get(base) == 0) {
+                return -1 - slot;
+            }
+            if (buffer.getInt(base + HASH) == hash && keyMatches(buffer, base + KEY)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private boolean keyMatches(ByteBuffer buffer, int offset) {
+        int i = 0;
+        for (; i + Long.BYTES <= keyWidth; i += Long.BYTES) {
+            if (buffer.getLong(offset + i) != keyBytes.getLong(i)) {
+                return false;
+            }
+        }
+        for (; i < keyWidth; i++) {
+            if (buffer.get(offset + i) != keyBytes.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeValue(int slot, V value) {
+        ByteBuffer buffer = slots.buffer(slot);
+        int offset = slots.base(slot) + KEY + keyWidth;
+        buffer.position(offset);
+        valueCodec.encode(value, buffer);
+        if (buffer.position() != offset + valueWidth) {
+            throw new IllegalStateException("Value codec wrote " + (buffer.position() - offset)
+                    + " bytes instead of " + valueWidth);
+        }
+    }
+
+    private V readValue(int slot) {
+        ByteBuffer buffer = slots.buffer(slot);
+        buffer.position(slots.base(slot) + KEY + keyWidth);
+        return valueCodec.decode(buffer);
+    }
+
+    private K readKey(int slot) {
+        ByteBuffer buffer = slots.buffer(slot);
+        buffer.position(slots.base(slot) + KEY);
+        return keyCodec.decode(buffer);
+    }
+
+    private void deleteSlot(int hole) {
+        int mask = capacity - 1;
+        int slot = hole;
+
+        while (true) {
+            slot = (slot + 1) & mask;
+            ByteBuffer buffer = slots.buffer(slot);
+            int base = slots.base(slot);
+            if (buffer.get(base) == 0) {
+                break;
+            }
+
+            int home = buffer.getInt(base + HASH) & mask;
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                slots.buffer(hole).put(slots.base(hole), buffer, base, slotWidth);
+                hole = slot;
+            }
+        }
+
+        slots.buffer(hole).put(slots.base(hole), (byte) 0);
+    }
+
+    /**
+     * Copies every used slot into a new file of the given capacity, then moves that
+     * file over the old one, so a crash leaves either the old or the new table.
+     */
+    private void rehash(int newCapacity) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".rehash");
+        FileChannel newChannel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Slots newSlots;
+        MappedByteBuffer newHeader;
+        try {
+            newHeader = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            newSlots = map(newChannel, newCapacity);
+
+            int mask = newCapacity - 1;
+            for (int slot = 0; slot < capacity; slot++) {
+                ByteBuffer buffer = slots.buffer(slot);
+                int base = slots.base(slot);
+                if (buffer.get(base) == 0) {
+                    continue;
+                }
+                int target = buffer.getInt(base + HASH) & mask;
+                while (newSlots.buffer(target).get(newSlots.base(target)) != 0) {
+                    target = (target + 1) & mask;
+                }
+                newSlots.buffer(target).put(newSlots.base(target), buffer, base, slotWidth);
+            }
+        } catch (IOException | RuntimeException e) {
+            newChannel.close();
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        FileChannel oldChannel = channel;
+        channel = newChannel;
+        header = newHeader;
+        slots = newSlots;
+        capacity = newCapacity;
+        writeHeader();
+        flush();
+        oldChannel.close();
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        modCount++;
+    }
+
+    private static final class Slots {
+        final MappedByteBuffer[] segments;
+        final int perSegment;
+        final int slotWidth;
+
+        Slots(MappedByteBuffer[] segments, int perSegment, int slotWidth) {
+            this.segments = segments;
+            this.perSegment = perSegment;
+            this.slotWidth = slotWidth;
+        }
+
+        ByteBuffer buffer(int slot) {
+            return segments[slot / perSegment];
+        }
+
+        int base(int slot) {
+            return (slot % perSegment) * slotWidth;
+        }
+    }
+
+    private final class SlotIterator implements Iterator<Entry<K, V>> {
+        private final int expectedModCount = modCount;
+        private int slot = findNextSlot(0);
+
+        @Override
+        public boolean hasNext() {
+            return slot < capacity;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (slot >= capacity) {
+                throw new NoSuchElementException("No more elements in iterator");
+            }
+
+            Entry<K, V> result = new Entry<>(readKey(slot), readValue(slot));
+            slot = findNextSlot(slot + 1);
+            return result;
+        }
+
+        private int findNextSlot(int from) {
+            while (from < capacity && slots.buffer(from).get(slots.base(from)) == 0) {
+                from++;
+            }
+            return from;
+        }
+    }
+}
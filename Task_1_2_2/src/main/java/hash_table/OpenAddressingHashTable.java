@@ -0,0 +1,299 @@
+package hash_table;
+
+import hash_table.core.Entry;
+import hash_table.core.HashFunction;
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import hash_table.iterator.OpenAddressingIterator;
+import java.util.*;
+
+/**
+ * Hash table with linear probing over parallel key, value and hash arrays.
+ * Removal uses backward-shift deletion, so there are no tombstones and probe
+ * sequences never grow from deletes. Offers the same operations as {@link HashTable}
+ * without allocating an entry object per mapping.
+ */
+public class OpenAddressingHashTable<K, V> implements Iterable<Entry<K, V>> {
+    private static final Object NULL_KEY = new Object();
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.7;
+    private static final double MIN_LOAD_FACTOR = 0.2;
+
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int size;
+    private int capacity;
+    private int modCount = 0;
+
+    public OpenAddressingHashTable() {
+        this.capacity = DEFAULT_CAPACITY;
+        allocate(capacity);
+        this.size = 0;
+    }
+
+    public int getModCount() {
+        return modCount;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Object[] getKeys() {
+        return keys;
+    }
+
+    public Object[] getValues() {
+        return values;
+    }
+
+    public void put(K key, V value) {
+        Object stored = maskNull(key);
+        int hash = hash(stored);
+        int mask = capacity - 1;
+        int index = hash & mask;
+
+        while (keys[index] != null) {
+            if (hashes[index] == hash && Objects.equals(keys[index], stored)) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = stored;
+        values[index] = value;
+        hashes[index] = hash;
+        size++;
+        modCount++;
+
+        if (size > capacity * LOAD_FACTOR) {
+            rehash(capacity * 2);
+        }
+    }
+
+    public V get(K key) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot get from empty table");
+        }
+
+        int index = indexOf(key);
+        if (index < 0) {
+            throw new KeyNotFoundException(key);
+        }
+        return valueAt(index);
+    }
+
+    public void update(K key, V value) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot update in empty table");
+        }
+
+        int index = indexOf(key);
+        if (index < 0) {
+            throw new KeyNotFoundException(key);
+        }
+        values[index] = value;
+        modCount++;
+    }
+
+    public V remove(K key) throws KeyNotFoundException, EmptyHashTableException {
+        if (isEmpty()) {
+            throw new EmptyHashTableException("Cannot remove from empty table");
+        }
+
+        int index = indexOf(key);
+        if (index < 0) {
+            throw new KeyNotFoundException(key);
+        }
+
+        V value = valueAt(index);
+        deleteSlot(index);
+        size--;
+        modCount++;
+
+        checkShrink();
+        return value;
+    }
+
+    public boolean containsKey(K key) {
+        return indexOf(key) >= 0;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        if (capacity > DEFAULT_CAPACITY * 4) {
+            capacity = DEFAULT_CAPACITY;
+            allocate(capacity);
+        } else {
+            Arrays.fill(keys, null);
+            Arrays.fill(values, null);
+        }
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new OpenAddressingIterator<>(this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        OpenAddressingHashTable<K, V> other = (OpenAddressingHashTable<K, V>) o;
+        if (size != other.size) return false;
+
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] == null) {
+                continue;
+            }
+            int otherIndex = other.indexOf((K) unmaskNull(keys[i]));
+            if (otherIndex < 0 || !Objects.equals(values[i], other.values[otherIndex])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sums key hash XOR value hash over the mappings, so equal tables hash alike
+     * whatever their capacity or probe order.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null) {
+                hash += Objects.hashCode(unmaskNull(keys[i])) ^ Objects.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        boolean first = true;
+
+        for (Entry<K, V> entry : this) {
+            if (!first) {
+                sb.append(", ");
+            }
+            sb.append(entry.toString());
+            first = false;
+        }
+
+        sb.append("}");
+        return sb.toString();
+    }
+
+    public static Object unmaskNull(Object key) {
+        return key == NULL_KEY ? null : key;
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static int hash(Object stored) {
+        int h = stored == NULL_KEY ? 0 : stored.hashCode();
+        return HashFunction.mix(h);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    private int indexOf(Object key) {
+        Object stored = maskNull(key);
+        int hash = hash(stored);
+        int mask = capacity - 1;
+        int index = hash & mask;
+
+        while (keys[index] != null) {
+            if (hashes[index] == hash && Objects.equals(keys[index], stored)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Empties the slot and shifts back every later entry of the probe run
+     * that is allowed to move closer to its home slot.
+     */
+    private void deleteSlot(int hole) {
+        int mask = capacity - 1;
+        int index = hole;
+
+        while (true) {
+            index = (index + 1) & mask;
+            if (keys[index] == null) {
+                break;
+            }
+
+            int home = hashes[index] & mask;
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = values[index];
+                hashes[hole] = hashes[index];
+                hole = index;
+            }
+        }
+
+        keys[hole] = null;
+        values[hole] = null;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+    }
+
+    private void checkShrink() {
+        if (capacity > DEFAULT_CAPACITY && size < capacity * MIN_LOAD_FACTOR) {
+            rehash(Math.max(DEFAULT_CAPACITY, capacity / 2));
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldCapacity = capacity;
+
+        capacity = newCapacity;
+        allocate(capacity);
+        int mask = capacity - 1;
+
+        for (int i = 0; i < oldCapacity; i++) {
+            if (oldKeys[i] == null) {
+                continue;
+            }
+            int index = oldHashes[i] & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+            hashes[index] = oldHashes[i];
+        }
+        modCount++;
+    }
+}
@@ -0,0 +1,48 @@
+package hash_table.cache;
+
+/**
+ * Immutable counters of a {@link HashTableCache} at one point in time.
+ */
+public class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    public CacheStats(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Mappings dropped to respect the maximum size or because they expired.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Share of requests that were hits, or 1 when there were no requests.
+     */
+    public double getHitRate() {
+        long requests = getRequestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + "}";
+    }
+}
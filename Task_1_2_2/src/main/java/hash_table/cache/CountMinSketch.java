@@ -0,0 +1,78 @@
+package hash_table.cache;
+
+import hash_table.core.HashFunction;
+
+/**
+ * Approximate access counts in a fixed number of small counters. Each hash increments
+ * one counter per row and its estimate is the smallest of them, so estimates can only
+ * be too high. Counters are 4 bits wide, sixteen to a long, so a row costs half a byte
+ * per counter. They saturate at 15, and once the sample count reaches ten times the
+ * width every counter is halved, so old popularity fades.
+ */
+public class CountMinSketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long HALVE_MASK = 0x7777777777777777L;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final long[][] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int samples;
+
+    public CountMinSketch(int expectedItems) {
+        if (expectedItems < 1) {
+            throw new IllegalArgumentException("Expected items must be positive: " + expectedItems);
+        }
+        int width = Math.max(16, HashFunction.tableSizeFor(expectedItems));
+        this.counters = new long[DEPTH][width >>> 4];
+        this.mask = width - 1;
+        this.sampleSize = 10 * width;
+    }
+
+    public void increment(int hash) {
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            int shift = shiftOf(index);
+            if (((counters[row][index >>> 4] >>> shift) & MAX_COUNT) < MAX_COUNT) {
+                counters[row][index >>> 4] += 1L << shift;
+                added = true;
+            }
+        }
+
+        if (added && ++samples >= sampleSize) {
+            reset();
+        }
+    }
+
+    public int frequency(int hash) {
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            frequency = Math.min(frequency, (int) (counters[row][index >>> 4] >>> shiftOf(index)) & MAX_COUNT);
+        }
+        return frequency;
+    }
+
+    private int indexOf(int hash, int row) {
+        return HashFunction.mix(hash * SEEDS[row] + row) & mask;
+    }
+
+    private static int shiftOf(int index) {
+        return (index & 15) << 2;
+    }
+
+    /**
+     * Halves all sixteen counters of a word at once; the mask drops the bit each one
+     * would otherwise shift into its lower neighbor.
+     */
+    private void reset() {
+        for (long[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (row[i] >>> 1) & HALVE_MASK;
+            }
+        }
+        samples /= 2;
+    }
+}
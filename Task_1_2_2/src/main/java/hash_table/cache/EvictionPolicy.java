@@ -0,0 +1,17 @@
+package hash_table.cache;
+
+/**
+ * How a full {@link HashTableCache} picks the mapping to drop.
+ */
+public enum EvictionPolicy {
+    /**
+     * Drops the least recently used mapping.
+     */
+    LRU,
+    /**
+     * TinyLFU admission in front of LRU order: a new mapping replaces the least recently
+     * used one only if a count-min sketch estimates it is accessed more often; otherwise
+     * the new mapping itself is dropped.
+     */
+    LFU
+}
@@ -0,0 +1,259 @@
+package hash_table.cache;
+
+import hash_table.HashTable;
+import hash_table.core.HashFunction;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded cache on top of {@link HashTable}. The table maps every key to a node
+ * that is also linked into an access-ordered list, so a lookup, a promotion and an
+ * eviction each cost O(1). With {@link EvictionPolicy#LFU} every access is also counted
+ * in a {@link CountMinSketch} that decides whether a new mapping may replace the least
+ * recently used one. Mappings can expire a fixed time after they were written; expired
+ * mappings are dropped when read or when they reach the eviction end of the list.
+ * Null keys are allowed, null values are not. The cache is not thread-safe.
+ */
+public class HashTableCache<K, V> {
+    // A sketch a few times wider than the cache keeps one-off keys from
+    // colliding their way past the popular ones. Its four rows of 4-bit counters
+    // cost 8 bytes per cached mapping, and at most 32 MiB.
+    private static final int SKETCH_WIDTH_FACTOR = 4;
+    private static final int MAX_SKETCH_WIDTH = 1 << 24;
+
+    private final HashTable<K, Node<K, V>> table;
+    private final int maxSize;
+    private final EvictionPolicy policy;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+    private final CountMinSketch sketch;
+
+    // Sentinel of the circular access list: head.next is the most recently used node.
+    private final Node<K, V> head = new Node<>(null, null, 0);
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    private static final class Node<K, V> {
+        final K key;
+        V value;
+        long writeTime;
+        Node<K, V> prev = this;
+        Node<K, V> next = this;
+
+        Node(K key, V value, long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+
+    public HashTableCache(int maxSize, EvictionPolicy policy) {
+        this(maxSize, policy, null);
+    }
+
+    /**
+     * Creates a cache of at most {@code maxSize} mappings whose mappings expire
+     * {@code expireAfterWrite} after they were last written, or never if it is null.
+     */
+    public HashTableCache(int maxSize, EvictionPolicy policy, Duration expireAfterWrite) {
+        this(maxSize, policy, expireAfterWrite, System::nanoTime);
+    }
+
+    HashTableCache(int maxSize, EvictionPolicy policy, Duration expireAfterWrite, LongSupplier ticker) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maxSize);
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Eviction policy must not be null");
+        }
+        if (expireAfterWrite != null && (expireAfterWrite.isNegative() || expireAfterWrite.isZero())) {
+            throw new IllegalArgumentException("Expiry must be positive: " + expireAfterWrite);
+        }
+        this.maxSize = maxSize;
+        this.policy = policy;
+        this.expireAfterWriteNanos = expireAfterWrite == null ? Long.MAX_VALUE : saturatedNanos(expireAfterWrite);
+        this.ticker = ticker;
+        this.sketch = policy == EvictionPolicy.LFU
+                ? new CountMinSketch((int) Math.min((long) maxSize * SKETCH_WIDTH_FACTOR, MAX_SKETCH_WIDTH))
+                : null;
+        this.table = new HashTable<>(maxSize + 1, 0.75);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public EvictionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Number of mappings held, including expired ones not yet dropped.
+     */
+    public int getSize() {
+        return table.getSize();
+    }
+
+    /**
+     * Returns the cached value, or null if the key is absent or expired.
+     */
+    public V getIfPresent(K key) {
+        recordAccess(key);
+        Node<K, V> node = lookup(key);
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return node.value;
+    }
+
+    /**
+     * Returns the cached value, loading and caching it on a miss. A loader returning
+     * null caches nothing.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        recordAccess(key);
+        Node<K, V> node = lookup(key);
+        if (node != null) {
+            hitCount++;
+            return node.value;
+        }
+
+        missCount++;
+        V value = loader.apply(key);
+        if (value != null) {
+            store(key, value);
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null");
+        }
+        recordAccess(key);
+        store(key, value);
+    }
+
+    /**
+     * Removes the key and reports whether it was cached.
+     */
+    public boolean invalidate(K key) {
+        Node<K, V> node = table.getOrDefault(key, null);
+        if (node == null) {
+            return false;
+        }
+        table.removeIfPresent(key);
+        unlink(node);
+        return true;
+    }
+
+    public void invalidateAll() {
+        table.clear();
+        head.next = head;
+        head.prev = head;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount);
+    }
+
+    /**
+     * Finds a live node and marks it most recently used; drops it if it expired.
+     */
+    private Node<K, V> lookup(K key) {
+        Node<K, V> node = table.getOrDefault(key, null);
+        if (node == null) {
+            return null;
+        }
+        if (isExpired(node, ticker.getAsLong())) {
+            table.removeIfPresent(key);
+            unlink(node);
+            evictionCount++;
+            return null;
+        }
+        moveToFront(node);
+        return node;
+    }
+
+    private void store(K key, V value) {
+        long now = ticker.getAsLong();
+        Node<K, V> node = table.getOrDefault(key, null);
+        if (node != null) {
+            node.value = value;
+            node.writeTime = now;
+            moveToFront(node);
+            return;
+        }
+
+        node = new Node<>(key, value, now);
+        table.put(key, node);
+        linkFirst(node);
+        if (table.getSize() > maxSize) {
+            evict(node, now);
+        }
+    }
+
+    /**
+     * Drops one mapping to get back to the maximum size: the least recently used one,
+     * unless the LFU policy finds the newly added {@code candidate} less popular.
+     */
+    private void evict(Node<K, V> candidate, long now) {
+        Node<K, V> victim = head.prev;
+        if (sketch != null && !isExpired(victim, now)
+                && sketch.frequency(hash(candidate.key)) <= sketch.frequency(hash(victim.key))) {
+            victim = candidate;
+        }
+        table.removeIfPresent(victim.key);
+        unlink(victim);
+        evictionCount++;
+    }
+
+    private void recordAccess(K key) {
+        if (sketch != null) {
+            sketch.increment(hash(key));
+        }
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return now - node.writeTime >= expireAfterWriteNanos;
+    }
+
+    private void moveToFront(Node<K, V> node) {
+        if (head.next != node) {
+            unlink(node);
+            linkFirst(node);
+        }
+    }
+
+    private void linkFirst(Node<K, V> node) {
+        node.prev = head;
+        node.next = head.next;
+        head.next.prev = node;
+        head.next = node;
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = node;
+        node.next = node;
+    }
+
+    private static int hash(Object key) {
+        return HashFunction.mix(Objects.hashCode(key));
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
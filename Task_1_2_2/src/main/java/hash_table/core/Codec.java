@@ -0,0 +1,112 @@
+package hash_table.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed-width binary form of keys or values for tables that store bytes instead of
+ * objects. {@link #encode} writes exactly {@link #width()} bytes at the buffer's
+ * position and {@link #decode} reads them back, both advancing the position.
+ * Tables compare keys by their encoded bytes, so equal keys must encode identically.
+ */
+public interface Codec<T> {
+    int width();
+
+    void encode(T value, ByteBuffer buffer);
+
+    T decode(ByteBuffer buffer);
+
+    static Codec<Integer> ints() {
+        return new Codec<>() {
+            @Override
+            public int width() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void encode(Integer value, ByteBuffer buffer) {
+                buffer.putInt(value);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+    }
+
+    static Codec<Long> longs() {
+        return new Codec<>() {
+            @Override
+            public int width() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void encode(Long value, ByteBuffer buffer) {
+                buffer.putLong(value);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+    }
+
+    static Codec<Double> doubles() {
+        return new Codec<>() {
+            @Override
+            public int width() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void encode(Double value, ByteBuffer buffer) {
+                buffer.putDouble(value);
+            }
+
+            @Override
+            public Double decode(ByteBuffer buffer) {
+                return buffer.getDouble();
+            }
+        };
+    }
+
+    /**
+     * UTF-8 strings of at most {@code maxBytes} encoded bytes, stored as a length
+     * followed by the bytes and zero padding.
+     */
+    static Codec<String> strings(int maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Maximum length must not be negative: " + maxBytes);
+        }
+        return new Codec<>() {
+            @Override
+            public int width() {
+                return Integer.BYTES + maxBytes;
+            }
+
+            @Override
+            public void encode(String value, ByteBuffer buffer) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length > maxBytes) {
+                    throw new IllegalArgumentException("String needs " + bytes.length + " bytes, at most " + maxBytes + " fit");
+                }
+                buffer.putInt(bytes.length);
+                buffer.put(bytes);
+                for (int i = bytes.length; i < maxBytes; i++) {
+                    buffer.put((byte) 0);
+                }
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                buffer.position(buffer.position() + maxBytes - bytes.length);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
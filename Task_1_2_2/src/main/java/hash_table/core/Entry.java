@@ -3,8 +3,9 @@ package hash_table.core;
 import java.util.Objects;
 
 public class Entry<K, V> {
-    private final K key;
+    private K key;
     private V value;
+    private int hash;
     private Entry<K, V> next;
 
     public Entry(K key, V value) {
@@ -12,6 +13,16 @@ public class Entry<K, V> {
         this.value = value;
     }
 
+    /**
+     * Creates an entry that remembers its key's table hash, so chain walks and
+     * rehashing can skip keys without calling hashCode or equals.
+     */
+    public Entry(K key, V value, int hash) {
+        this.key = key;
+        this.value = value;
+        this.hash = hash;
+    }
+
     public K getKey() {
         return key;
     }
@@ -20,6 +31,13 @@ public class Entry<K, V> {
         return value;
     }
 
+    /**
+     * Returns the hash the entry was created with, or 0 if it was created without one.
+     */
+    public int getHash() {
+        return hash;
+    }
+
     public Entry<K, V> getNext() {
         return next;
     }
@@ -32,17 +50,27 @@ public class Entry<K, V> {
         this.next = next;
     }
 
+    /**
+     * Reinitializes an entry taken from an {@link EntryPool}.
+     */
+    void reset(K key, V value, int hash) {
+        this.key = key;
+        this.value = value;
+        this.hash = hash;
+        this.next = null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (!(o instanceof Entry)) return false;
         Entry<?, ?> entry = (Entry<?, ?>) o;
         return Objects.equals(key, entry.key) && Objects.equals(value, entry.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(key, value);
+        return Objects.hashCode(key) ^ Objects.hashCode(value);
     }
 
     @Override
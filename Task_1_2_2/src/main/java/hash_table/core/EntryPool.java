@@ -0,0 +1,59 @@
+package hash_table.core;
+
+/**
+ * Bounded free list of entries removed from a table, handed out again for new keys so
+ * that workloads which keep adding and removing keys allocate few entries. Released
+ * entries are cleared, so the pool keeps no keys or values alive. An entry may only be
+ * released once nothing outside the table can still reach it.
+ */
+public class EntryPool<K, V> {
+    private final int maxSize;
+    private final boolean linked;
+    private Entry<K, V> free;
+    private int size;
+
+    public EntryPool(int maxSize) {
+        this(maxSize, false);
+    }
+
+    /**
+     * Creates a pool that hands out {@link LinkedEntry} instances when {@code linked}
+     * is set, for insertion-ordered tables.
+     */
+    public EntryPool(int maxSize, boolean linked) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Pool size must not be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.linked = linked;
+    }
+
+    public Entry<K, V> acquire(K key, V value, int hash) {
+        Entry<K, V> entry = free;
+        if (entry == null) {
+            return linked ? new LinkedEntry<>(key, value, hash) : new Entry<>(key, value, hash);
+        }
+        free = entry.getNext();
+        size--;
+        entry.reset(key, value, hash);
+        return entry;
+    }
+
+    public void release(Entry<K, V> entry) {
+        if (size == maxSize) {
+            return;
+        }
+        entry.reset(null, null, 0);
+        entry.setNext(free);
+        free = entry;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
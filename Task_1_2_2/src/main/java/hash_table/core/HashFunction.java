@@ -3,6 +3,50 @@ package hash_table.core;
 public class HashFunction {
     public static <K> int hash(K key, int capacity) {
         if (key == null) return 0;
-        return Math.abs(key.hashCode()) % capacity;
+        return indexFor(mix(key.hashCode()), capacity);
+    }
+
+    /**
+     * Murmur3 fmix32 finalizer: every input bit affects every output bit, so keys whose
+     * hash codes differ only in high bits still land in different buckets after masking.
+     * Maps 0 to 0.
+     */
+    public static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Murmur3 fmix64 finalizer folded to 32 bits, for primitive {@code long} keys.
+     * Maps 0 to 0.
+     */
+    public static int mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Bucket index of a mixed hash: a mask for power-of-two capacities, otherwise a
+     * non-negative remainder.
+     */
+    public static int indexFor(int hash, int capacity) {
+        if ((capacity & (capacity - 1)) == 0) {
+            return hash & (capacity - 1);
+        }
+        return Math.floorMod(hash, capacity);
+    }
+
+    public static int tableSizeFor(int expected) {
+        if (expected <= 1) return 1;
+        if (expected > 1 << 30) return 1 << 30;
+        return Integer.highestOneBit(expected - 1) << 1;
     }
 }
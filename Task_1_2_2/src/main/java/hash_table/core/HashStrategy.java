@@ -0,0 +1,17 @@
+package hash_table.core;
+
+import java.util.Objects;
+
+/**
+ * Computes the hash a table uses to place a key. Tables index buckets with the low bits
+ * of the result, so a strategy should return well-mixed values; wrap a raw hash with
+ * {@link HashFunction#mix(int)} unless it is already uniform.
+ */
+@FunctionalInterface
+public interface HashStrategy<K> {
+    int hash(K key);
+
+    static <K> HashStrategy<K> defaultStrategy() {
+        return key -> HashFunction.mix(Objects.hashCode(key));
+    }
+}
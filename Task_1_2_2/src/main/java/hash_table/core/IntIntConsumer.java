@@ -0,0 +1,6 @@
+package hash_table.core;
+
+@FunctionalInterface
+public interface IntIntConsumer {
+    void accept(int key, int value);
+}
@@ -0,0 +1,41 @@
+package hash_table.core;
+
+/**
+ * Entry of an insertion-ordered table, linked to the entries inserted just before and
+ * after it. Only insertion-ordered tables create these, so other tables do not pay for
+ * the links.
+ */
+public class LinkedEntry<K, V> extends Entry<K, V> {
+    private LinkedEntry<K, V> before;
+    private LinkedEntry<K, V> after;
+
+    public LinkedEntry(K key, V value, int hash) {
+        super(key, value, hash);
+    }
+
+    /**
+     * Returns the entry inserted just before this one.
+     */
+    public LinkedEntry<K, V> getBefore() {
+        return before;
+    }
+
+    public LinkedEntry<K, V> getAfter() {
+        return after;
+    }
+
+    public void setBefore(LinkedEntry<K, V> before) {
+        this.before = before;
+    }
+
+    public void setAfter(LinkedEntry<K, V> after) {
+        this.after = after;
+    }
+
+    @Override
+    void reset(K key, V value, int hash) {
+        super.reset(key, value, hash);
+        this.before = null;
+        this.after = null;
+    }
+}
@@ -0,0 +1,6 @@
+package hash_table.core;
+
+@FunctionalInterface
+public interface LongDoubleConsumer {
+    void accept(long key, double value);
+}
@@ -0,0 +1,6 @@
+package hash_table.core;
+
+@FunctionalInterface
+public interface LongIntConsumer {
+    void accept(long key, int value);
+}
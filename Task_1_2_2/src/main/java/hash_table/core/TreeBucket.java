@@ -0,0 +1,279 @@
+package hash_table.core;
+
+import java.util.Objects;
+
+/**
+ * Balanced (AVL) index over the entries of one overfull bucket.
+ * Entries are ordered by hash, then by {@link Comparable} key when both keys are of
+ * the same comparable class, so lookups stay O(log n) even when many keys collide.
+ * The bucket's {@code next} chain is kept in the tree's in-order sequence, so code
+ * that walks the chain sees every entry exactly once.
+ */
+public class TreeBucket<K, V> {
+    private Node<K, V> root;
+    private Entry<K, V> head;
+    private int size;
+    private int sequence;
+
+    // Set by insert and delete: in-order predecessor of the node being linked or unlinked.
+    private Node<K, V> predecessor;
+
+    private static final class Node<K, V> {
+        final Entry<K, V> entry;
+        final int hash;
+        final int seq;
+        Node<K, V> left;
+        Node<K, V> right;
+        int height = 1;
+
+        Node(Entry<K, V> entry, int hash, int seq) {
+            this.entry = entry;
+            this.hash = hash;
+            this.seq = seq;
+        }
+    }
+
+    /**
+     * Indexes a chain of entries by the hashes they cached when created.
+     */
+    public static <K, V> TreeBucket<K, V> treeify(Entry<K, V> chain) {
+        TreeBucket<K, V> bucket = new TreeBucket<>();
+        for (Entry<K, V> e = chain; e != null; e = e.getNext()) {
+            bucket.root = bucket.insert(bucket.root, new Node<>(e, e.getHash(), bucket.sequence++));
+            bucket.size++;
+        }
+        bucket.head = bucket.relink(bucket.root, null);
+        return bucket;
+    }
+
+    public Entry<K, V> getHead() {
+        return head;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Entry<K, V> find(Object key, int hash) {
+        Node<K, V> node = findNode(root, key, hash);
+        return node == null ? null : node.entry;
+    }
+
+    /**
+     * Adds an entry whose key is not yet in the bucket.
+     */
+    public void insert(Entry<K, V> entry, int hash) {
+        predecessor = null;
+        root = insert(root, new Node<>(entry, hash, sequence++));
+
+        if (predecessor == null) {
+            entry.setNext(head);
+            head = entry;
+        } else {
+            entry.setNext(predecessor.entry.getNext());
+            predecessor.entry.setNext(entry);
+        }
+        predecessor = null;
+        size++;
+    }
+
+    public Entry<K, V> remove(Object key, int hash) {
+        Node<K, V> target = findNode(root, key, hash);
+        if (target == null) {
+            return null;
+        }
+
+        predecessor = target.left == null ? null : max(target.left);
+        Node<K, V> below = predecessor;
+        root = delete(root, target);
+        if (below != null) {
+            predecessor = below;
+        }
+
+        Entry<K, V> next = target.entry.getNext();
+        if (predecessor == null) {
+            head = next;
+        } else {
+            predecessor.entry.setNext(next);
+        }
+        target.entry.setNext(null);
+        predecessor = null;
+        size--;
+        return target.entry;
+    }
+
+    int height() {
+        return height(root);
+    }
+
+    private Node<K, V> findNode(Node<K, V> p, Object key, int hash) {
+        while (p != null) {
+            if (hash < p.hash) {
+                p = p.left;
+            } else if (hash > p.hash) {
+                p = p.right;
+            } else if (Objects.equals(key, p.entry.getKey())) {
+                return p;
+            } else {
+                int c = compareComparables(key, p.entry.getKey());
+                if (c < 0) {
+                    p = p.left;
+                } else if (c > 0) {
+                    p = p.right;
+                } else {
+                    // Same hash and no usable ordering: the key may sit on either side.
+                    Node<K, V> found = findNode(p.right, key, hash);
+                    if (found != null) {
+                        return found;
+                    }
+                    p = p.left;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Node<K, V> insert(Node<K, V> p, Node<K, V> node) {
+        if (p == null) {
+            return node;
+        }
+        if (order(node, p) < 0) {
+            p.left = insert(p.left, node);
+        } else {
+            predecessor = p;
+            p.right = insert(p.right, node);
+        }
+        return balance(p);
+    }
+
+    private Node<K, V> delete(Node<K, V> p, Node<K, V> target) {
+        int c = order(target, p);
+        if (c < 0) {
+            p.left = delete(p.left, target);
+        } else if (c > 0) {
+            predecessor = p;
+            p.right = delete(p.right, target);
+        } else {
+            if (p.left == null) {
+                return p.right;
+            }
+            if (p.right == null) {
+                return p.left;
+            }
+            Node<K, V> successor = min(p.right);
+            successor.right = deleteMin(p.right);
+            successor.left = p.left;
+            return balance(successor);
+        }
+        return balance(p);
+    }
+
+    private Node<K, V> deleteMin(Node<K, V> p) {
+        if (p.left == null) {
+            return p.right;
+        }
+        p.left = deleteMin(p.left);
+        return balance(p);
+    }
+
+    private Entry<K, V> relink(Node<K, V> p, Entry<K, V> tail) {
+        if (p == null) {
+            return tail;
+        }
+        Entry<K, V> rest = relink(p.right, tail);
+        p.entry.setNext(rest);
+        return relink(p.left, p.entry);
+    }
+
+    private static <K, V> Node<K, V> min(Node<K, V> p) {
+        while (p.left != null) {
+            p = p.left;
+        }
+        return p;
+    }
+
+    private static <K, V> Node<K, V> max(Node<K, V> p) {
+        while (p.right != null) {
+            p = p.right;
+        }
+        return p;
+    }
+
+    private static <K, V> int order(Node<K, V> a, Node<K, V> b) {
+        if (a == b) {
+            return 0;
+        }
+        int c = Integer.compare(a.hash, b.hash);
+        if (c != 0) {
+            return c;
+        }
+        Object ka = a.entry.getKey();
+        Object kb = b.entry.getKey();
+        c = compareComparables(ka, kb);
+        if (c != 0) {
+            return c;
+        }
+        c = className(ka).compareTo(className(kb));
+        if (c != 0) {
+            return c;
+        }
+        c = Integer.compare(System.identityHashCode(ka), System.identityHashCode(kb));
+        return c != 0 ? c : Integer.compare(a.seq, b.seq);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareComparables(Object a, Object b) {
+        if (a == null || b == null || a.getClass() != b.getClass() || !(a instanceof Comparable)) {
+            return 0;
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    private static String className(Object key) {
+        return key == null ? "" : key.getClass().getName();
+    }
+
+    private static int height(Node<?, ?> p) {
+        return p == null ? 0 : p.height;
+    }
+
+    private static <K, V> Node<K, V> balance(Node<K, V> p) {
+        int diff = height(p.left) - height(p.right);
+        if (diff > 1) {
+            if (height(p.left.left) < height(p.left.right)) {
+                p.left = rotateLeft(p.left);
+            }
+            return rotateRight(p);
+        }
+        if (diff < -1) {
+            if (height(p.right.right) < height(p.right.left)) {
+                p.right = rotateRight(p.right);
+            }
+            return rotateLeft(p);
+        }
+        updateHeight(p);
+        return p;
+    }
+
+    private static <K, V> Node<K, V> rotateRight(Node<K, V> p) {
+        Node<K, V> l = p.left;
+        p.left = l.right;
+        l.right = p;
+        updateHeight(p);
+        updateHeight(l);
+        return l;
+    }
+
+    private static <K, V> Node<K, V> rotateLeft(Node<K, V> p) {
+        Node<K, V> r = p.right;
+        p.right = r.left;
+        r.left = p;
+        updateHeight(p);
+        updateHeight(r);
+        return r;
+    }
+
+    private static void updateHeight(Node<?, ?> p) {
+        p.height = Math.max(height(p.left), height(p.right)) + 1;
+    }
+}
@@ -7,17 +7,27 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 public class HashTableIterator<K, V> implements Iterator<Entry<K, V>> {
+    private final Entry<K, V>[] oldBuckets;
     private final Entry<K, V>[] buckets;
-    private final int capacity;
     private final int expectedModCount;
     private final HashTable<K, V> table;
     private int bucketIndex = 0;
     private Entry<K, V> current = null;
 
+    /**
+     * @deprecated the iterator reads the bucket arrays' own lengths, which also covers
+     * the old buckets of an incremental rehash, so {@code capacity} is ignored. Use
+     * {@link #HashTableIterator(HashTable)}.
+     */
+    @Deprecated
     public HashTableIterator(HashTable<K, V> table, int capacity) {
+        this(table);
+    }
+
+    public HashTableIterator(HashTable<K, V> table) {
         this.table = table;
+        this.oldBuckets = table.getOldBuckets();
         this.buckets = table.getBuckets();
-        this.capacity = capacity;
         this.expectedModCount = table.getModCount();
         this.current = findNextEntry();
     }
@@ -49,10 +59,18 @@ public class HashTableIterator<K, V> implements Iterator<Entry<K, V>> {
         return result;
     }
 
+    /**
+     * Walks the buckets not yet migrated by an incremental rehash first, then the
+     * current ones, as if both arrays were laid end to end.
+     */
     private Entry<K, V> findNextEntry() {
-        while (bucketIndex < capacity) {
-            if (buckets[bucketIndex] != null) {
-                return buckets[bucketIndex];
+        int oldLength = oldBuckets == null ? 0 : oldBuckets.length;
+        while (bucketIndex < oldLength + buckets.length) {
+            Entry<K, V> head = bucketIndex < oldLength
+                    ? oldBuckets[bucketIndex]
+                    : buckets[bucketIndex - oldLength];
+            if (head != null) {
+                return head;
             }
             bucketIndex++;
         }
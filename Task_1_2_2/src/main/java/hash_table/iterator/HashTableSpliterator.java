@@ -0,0 +1,122 @@
+package hash_table.iterator;
+
+import hash_table.HashTable;
+import hash_table.core.Entry;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Fail-fast spliterator over a range of buckets of a {@link HashTable}. Like
+ * {@link HashTableIterator} it treats the buckets not yet migrated by an incremental
+ * rehash and the current buckets as one array laid end to end, and it splits that
+ * array by halving the range. The root reports the exact size; a split part estimates
+ * its size from the share of buckets it covers.
+ */
+public class HashTableSpliterator<K, V> implements Spliterator<Entry<K, V>> {
+    private final HashTable<K, V> table;
+    private final Entry<K, V>[] oldBuckets;
+    private final Entry<K, V>[] buckets;
+    private final int oldLength;
+    private final int expectedModCount;
+    private final int fence;
+    private int index;
+    private long estimate;
+    private boolean sized;
+    private Entry<K, V> current;
+
+    public HashTableSpliterator(HashTable<K, V> table) {
+        this.table = table;
+        this.oldBuckets = table.getOldBuckets();
+        this.buckets = table.getBuckets();
+        this.oldLength = oldBuckets == null ? 0 : oldBuckets.length;
+        this.expectedModCount = table.getModCount();
+        this.fence = oldLength + buckets.length;
+        this.index = 0;
+        this.estimate = table.getSize();
+        this.sized = true;
+    }
+
+    private HashTableSpliterator(HashTableSpliterator<K, V> parent, int index, int fence, long estimate) {
+        this.table = parent.table;
+        this.oldBuckets = parent.oldBuckets;
+        this.buckets = parent.buckets;
+        this.oldLength = parent.oldLength;
+        this.expectedModCount = parent.expectedModCount;
+        this.fence = fence;
+        this.index = index;
+        this.estimate = estimate;
+        this.sized = false;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        while (current != null || index < fence) {
+            if (current == null) {
+                current = bucket(index++);
+                continue;
+            }
+            Entry<K, V> entry = current;
+            current = entry.getNext();
+            action.accept(entry);
+            checkForComodification();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Entry<K, V>> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        for (Entry<K, V> entry = current; entry != null; entry = entry.getNext()) {
+            action.accept(entry);
+        }
+        current = null;
+        for (; index < fence; index++) {
+            for (Entry<K, V> entry = bucket(index); entry != null; entry = entry.getNext()) {
+                action.accept(entry);
+            }
+        }
+        checkForComodification();
+    }
+
+    @Override
+    public Spliterator<Entry<K, V>> trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (current != null || mid <= index) {
+            return null;
+        }
+
+        long prefixEstimate = estimate * (mid - index) / (fence - index);
+        HashTableSpliterator<K, V> prefix = new HashTableSpliterator<>(this, index, mid, prefixEstimate);
+        estimate -= prefixEstimate;
+        index = mid;
+        sized = false;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return (sized ? SIZED : 0) | DISTINCT | NONNULL;
+    }
+
+    private Entry<K, V> bucket(int i) {
+        return i < oldLength ? oldBuckets[i] : buckets[i - oldLength];
+    }
+
+    private void checkForComodification() {
+        if (expectedModCount != table.getModCount()) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package hash_table.iterator;
+
+import hash_table.HashTable;
+import hash_table.core.Entry;
+import hash_table.core.LinkedEntry;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Fail-fast iterator over an insertion-ordered {@link HashTable}, following the
+ * entries' after links from the oldest mapping to the newest.
+ */
+public class LinkedHashTableIterator<K, V> implements Iterator<Entry<K, V>> {
+    private final HashTable<K, V> table;
+    private final int expectedModCount;
+    private LinkedEntry<K, V> current;
+
+    public LinkedHashTableIterator(HashTable<K, V> table) {
+        this.table = table;
+        this.expectedModCount = table.getModCount();
+        this.current = table.getFirstEntry();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return current != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+        if (expectedModCount != table.getModCount()) {
+            throw new ConcurrentModificationException();
+        }
+
+        if (current == null) {
+            throw new NoSuchElementException("No more elements in iterator");
+        }
+
+        Entry<K, V> result = current;
+        current = current.getAfter();
+        return result;
+    }
+}
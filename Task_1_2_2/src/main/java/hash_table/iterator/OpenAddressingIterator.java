@@ -0,0 +1,56 @@
+package hash_table.iterator;
+
+import hash_table.OpenAddressingHashTable;
+import hash_table.core.Entry;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Fail-fast iterator over the occupied slots of an {@link OpenAddressingHashTable}.
+ * The table stores no entry objects, so every call to {@link #next()} returns a new
+ * {@link Entry} snapshot; setting its value does not write through to the table.
+ */
+public class OpenAddressingIterator<K, V> implements Iterator<Entry<K, V>> {
+    private final OpenAddressingHashTable<K, V> table;
+    private final Object[] keys;
+    private final Object[] values;
+    private final int expectedModCount;
+    private int slot;
+
+    public OpenAddressingIterator(OpenAddressingHashTable<K, V> table) {
+        this.table = table;
+        this.keys = table.getKeys();
+        this.values = table.getValues();
+        this.expectedModCount = table.getModCount();
+        this.slot = findNextSlot(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return slot < keys.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Entry<K, V> next() {
+        if (expectedModCount != table.getModCount()) {
+            throw new ConcurrentModificationException();
+        }
+
+        if (slot >= keys.length) {
+            throw new NoSuchElementException("No more elements in iterator");
+        }
+
+        Entry<K, V> result = new Entry<>((K) OpenAddressingHashTable.unmaskNull(keys[slot]), (V) values[slot]);
+        slot = findNextSlot(slot + 1);
+        return result;
+    }
+
+    private int findNextSlot(int from) {
+        while (from < keys.length && keys[from] == null) {
+            from++;
+        }
+        return from;
+    }
+}
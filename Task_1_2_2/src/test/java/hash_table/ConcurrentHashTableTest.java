@@ -0,0 +1,197 @@
+package hash_table;
+
+import hash_table.core.Entry;
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentHashTableTest {
+    private ConcurrentHashTable<String, Integer> hashTable;
+
+    @BeforeEach
+    void setUp() {
+        hashTable = new ConcurrentHashTable<>();
+    }
+
+    @Test
+    void testPutAndGet() throws KeyNotFoundException, EmptyHashTableException {
+        hashTable.put("key1", 100);
+        hashTable.put("key2", 200);
+        hashTable.put("key1", 150);
+
+        assertEquals(150, hashTable.get("key1"));
+        assertEquals(200, hashTable.get("key2"));
+        assertEquals(2, hashTable.getSize());
+    }
+
+    @Test
+    void testNullKeyAndValue() throws KeyNotFoundException, EmptyHashTableException {
+        hashTable.put(null, 100);
+        hashTable.put("key1", null);
+
+        assertEquals(100, hashTable.get(null));
+        assertNull(hashTable.get("key1"));
+        assertTrue(hashTable.containsKey("key1"));
+    }
+
+    @Test
+    void testExceptions() {
+        assertThrows(EmptyHashTableException.class, () -> hashTable.get("key1"));
+        assertThrows(EmptyHashTableException.class, () -> hashTable.update("key1", 1));
+        assertThrows(EmptyHashTableException.class, () -> hashTable.remove("key1"));
+
+        hashTable.put("key1", 100);
+
+        assertThrows(KeyNotFoundException.class, () -> hashTable.get("key2"));
+        assertThrows(KeyNotFoundException.class, () -> hashTable.update("key2", 1));
+        assertThrows(KeyNotFoundException.class, () -> hashTable.remove("key2"));
+    }
+
+    @Test
+    void testUpdateAndRemove() throws KeyNotFoundException, EmptyHashTableException {
+        for (int i = 0; i < 1000; i++) {
+            hashTable.put("key" + i, i);
+        }
+        hashTable.update("key7", 70);
+
+        assertEquals(70, hashTable.get("key7"));
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(i == 7 ? 70 : i, hashTable.remove("key" + i));
+        }
+        assertEquals(500, hashTable.getSize());
+        assertFalse(hashTable.containsKey("key0"));
+        assertTrue(hashTable.containsKey("key1"));
+    }
+
+    @Test
+    void testClear() {
+        hashTable.put("key1", 100);
+        hashTable.put("key2", 200);
+
+        hashTable.clear();
+
+        assertTrue(hashTable.isEmpty());
+        assertEquals(0, hashTable.getSize());
+        assertEquals("{}", hashTable.toString());
+    }
+
+    @Test
+    void testSegmentCount() {
+        assertEquals(16, hashTable.getSegmentCount());
+        assertEquals(8, new ConcurrentHashTable<String, Integer>(5).getSegmentCount());
+        assertEquals(1, new ConcurrentHashTable<String, Integer>(1).getSegmentCount());
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentHashTable<String, Integer>(0));
+    }
+
+    @Test
+    void testSingleSegment() throws KeyNotFoundException, EmptyHashTableException {
+        ConcurrentHashTable<Integer, Integer> table = new ConcurrentHashTable<>(1);
+        for (int i = 0; i < 100; i++) {
+            table.put(i, i * i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i * i, table.get(i));
+        }
+    }
+
+    @Test
+    void testToString() {
+        hashTable.put("key1", 100);
+
+        assertEquals("{key1=100}", hashTable.toString());
+    }
+
+    @Test
+    void testIterator() {
+        for (int i = 0; i < 100; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        Set<String> keys = new HashSet<>();
+        for (Entry<String, Integer> entry : hashTable) {
+            keys.add(entry.getKey());
+        }
+
+        assertEquals(100, keys.size());
+    }
+
+    @Test
+    void testIteratorIsWeaklyConsistent() {
+        hashTable.put("key1", 100);
+        hashTable.put("key2", 200);
+
+        Iterator<Entry<String, Integer>> iterator = hashTable.iterator();
+        iterator.next();
+        for (int i = 0; i < 100; i++) {
+            hashTable.put("extra" + i, i);
+        }
+
+        assertDoesNotThrow(() -> {
+            while (iterator.hasNext()) {
+                iterator.next();
+            }
+        });
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testConcurrentWriters() throws Exception {
+        ConcurrentHashTable<Integer, Integer> table = new ConcurrentHashTable<>();
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    table.put(base + i, base + i);
+                }
+                for (int i = 0; i < perThread; i += 2) {
+                    table.remove(base + i);
+                }
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            start.await();
+            for (int round = 0; round < 20; round++) {
+                for (Entry<Integer, Integer> entry : table) {
+                    assertEquals(entry.getKey(), entry.getValue());
+                }
+            }
+            return null;
+        }));
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(threads * perThread / 2, table.getSize());
+        for (int key = 1; key < threads * perThread; key += 2) {
+            assertEquals(key, table.get(key));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package hash_table;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashTableMonitorTest {
+
+    @Test
+    void testStatisticsOverJmx() throws JMException {
+        HashTable<String, Integer> table = new HashTable<>();
+        table.setStatisticsEnabled(true);
+        table.put("a", 1);
+        table.put("b", 2);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = HashTableMonitor.register(table, "monitor-test");
+        try {
+            CompositeData stats = (CompositeData) server.getAttribute(name, "Stats");
+            assertEquals(2, stats.get("size"));
+            assertEquals(2L, stats.get("insertCount"));
+            assertEquals(HashTableStats.HISTOGRAM_SIZE, ((long[]) stats.get("chainLengthHistogram")).length);
+
+            server.setAttribute(name, new Attribute("StatisticsEnabled", false));
+            assertFalse(table.isStatisticsEnabled());
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    void testDuplicateNameIsRejected() throws JMException {
+        HashTable<String, Integer> table = new HashTable<>();
+        ObjectName name = HashTableMonitor.register(table, "duplicate");
+        try {
+            assertThrows(JMException.class, () -> HashTableMonitor.register(table, "duplicate"));
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+    }
+
+    @Test
+    void testNullTable() {
+        assertThrows(IllegalArgumentException.class, () -> new HashTableMonitor(null));
+    }
+}
@@ -0,0 +1,245 @@
+package hash_table;
+
+import hash_table.core.Codec;
+import hash_table.core.Entry;
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashTableSnapshotTest {
+    @TempDir
+    Path tempDir;
+
+    private HashTable<String, Integer> hashTable;
+
+    @BeforeEach
+    void setUp() {
+        hashTable = new HashTable<>();
+    }
+
+    private static Map<String, Integer> contents(Iterable<Entry<String, Integer>> entries) {
+        Map<String, Integer> map = new HashMap<>();
+        for (Entry<String, Integer> entry : entries) {
+            assertFalse(map.containsKey(entry.getKey()));
+            map.put(entry.getKey(), entry.getValue());
+        }
+        return map;
+    }
+
+    private static byte[] write(HashTableSnapshot<String, Integer> snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.write(Channels.newChannel(out), Codec.strings(12), Codec.ints());
+        return out.toByteArray();
+    }
+
+    private static HashTable<String, Integer> read(byte[] bytes) throws IOException {
+        return HashTableSnapshot.read(Channels.newChannel(new ByteArrayInputStream(bytes)),
+                Codec.strings(12), Codec.ints());
+    }
+
+    @Test
+    void testRoundTripThroughFile() throws IOException {
+        for (int i = 0; i < 100000; i++) {
+            hashTable.put("key" + i, i);
+        }
+        Path file = tempDir.resolve("table.snapshot");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            hashTable.snapshot().write(channel, Codec.strings(12), Codec.ints());
+        }
+        HashTable<String, Integer> copy;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            copy = HashTableSnapshot.read(channel, Codec.strings(12), Codec.ints());
+        }
+
+        assertEquals(hashTable, copy);
+        assertFalse(copy.isRehashing());
+        assertEquals(32 + 100000L * (1 + 16 + 4), file.toFile().length());
+    }
+
+    @Test
+    void testRoundTripWithNulls() throws IOException, KeyNotFoundException, EmptyHashTableException {
+        hashTable.put(null, 1);
+        hashTable.put("a", null);
+        hashTable.put("b", 2);
+
+        HashTable<String, Integer> copy = read(write(hashTable.snapshot()));
+
+        assertEquals(3, copy.getSize());
+        assertEquals(1, copy.get(null));
+        assertNull(copy.get("a"));
+        assertEquals(2, copy.get("b"));
+    }
+
+    @Test
+    void testEmptyTable() throws IOException {
+        HashTable<String, Integer> copy = read(write(hashTable.snapshot()));
+
+        assertTrue(copy.isEmpty());
+    }
+
+    @Test
+    void testSnapshotIgnoresLaterWrites() throws KeyNotFoundException, EmptyHashTableException {
+        for (int i = 0; i < 1000; i++) {
+            hashTable.put("key" + i, i);
+        }
+        HashTableSnapshot<String, Integer> snapshot = hashTable.snapshot();
+        Map<String, Integer> before = contents(snapshot);
+
+        for (int i = 0; i < 1000; i += 3) {
+            hashTable.update("key" + i, -i);
+        }
+        for (int i = 1; i < 1000; i += 3) {
+            hashTable.remove("key" + i);
+        }
+        for (int i = 1000; i < 5000; i++) {
+            hashTable.put("key" + i, i);
+        }
+        hashTable.merge("key2", 10, Integer::sum);
+        hashTable.compute("key5", (key, value) -> null);
+
+        assertEquals(1000, snapshot.getSize());
+        assertEquals(before, contents(snapshot));
+        assertEquals(0, before.get("key0"));
+        assertEquals(-3, hashTable.get("key3"));
+        assertEquals(12, hashTable.get("key2"));
+        assertFalse(hashTable.containsKey("key1"));
+        assertFalse(hashTable.containsKey("key5"));
+        assertEquals(1000 - 333 - 1 + 4000, hashTable.getSize());
+    }
+
+    @Test
+    void testSnapshotOfCollidingKeysSurvivesTreeChanges() {
+        HashTable<String, Integer> table = new HashTable<>(key -> 7);
+        for (int i = 0; i < 40; i++) {
+            table.put("key" + i, i);
+        }
+        HashTableSnapshot<String, Integer> snapshot = table.snapshot();
+
+        for (int i = 0; i < 40; i += 2) {
+            table.removeIfPresent("key" + i);
+        }
+        for (int i = 40; i < 60; i++) {
+            table.put("key" + i, i);
+        }
+
+        Map<String, Integer> image = contents(snapshot);
+        assertEquals(40, image.size());
+        assertEquals(20, image.get("key20"));
+        assertEquals(40, table.getSize());
+        assertFalse(table.containsKey("key20"));
+    }
+
+    @Test
+    void testSnapshotEntriesAreCopies() throws KeyNotFoundException, EmptyHashTableException {
+        hashTable.put("a", 1);
+
+        for (Entry<String, Integer> entry : hashTable.snapshot()) {
+            entry.setValue(100);
+        }
+
+        assertEquals(1, hashTable.get("a"));
+    }
+
+    @Test
+    void testSnapshotDuringIncrementalRehash() throws IOException {
+        for (int i = 0; i < 13; i++) {
+            hashTable.put("key" + i, i);
+        }
+        assertTrue(hashTable.isRehashing());
+
+        HashTableSnapshot<String, Integer> snapshot = hashTable.snapshot();
+        assertFalse(hashTable.isRehashing());
+        hashTable.put("key13", 13);
+
+        assertEquals(13, read(write(snapshot)).getSize());
+        assertEquals(14, hashTable.getSize());
+    }
+
+    @Test
+    void testWrittenSnapshotIsConsistentWhileWritersContinue() throws Exception {
+        for (int i = 0; i < 20000; i++) {
+            hashTable.put("key" + i, i);
+        }
+        HashTableSnapshot<String, Integer> snapshot = hashTable.snapshot();
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20000; i++) {
+                hashTable.merge("key" + i, 1, Integer::sum);
+                hashTable.put("new" + i, i);
+            }
+        });
+        writer.start();
+        byte[] bytes = write(snapshot);
+        writer.join();
+
+        HashTable<String, Integer> copy = read(bytes);
+        assertEquals(20000, copy.getSize());
+        for (Entry<String, Integer> entry : copy) {
+            assertEquals(entry.getKey(), "key" + entry.getValue());
+        }
+        assertEquals(40000, hashTable.getSize());
+    }
+
+    @Test
+    void testRoundTripKeepsLoadFactor() throws IOException {
+        HashTable<String, Integer> sparse = new HashTable<>(0, 0.25);
+        for (int i = 0; i < 100; i++) {
+            sparse.put("key" + i, i);
+        }
+        HashTableSnapshot<String, Integer> snapshot = sparse.snapshot();
+        assertEquals(0.25, snapshot.getLoadFactor());
+
+        HashTable<String, Integer> copy = read(write(snapshot));
+
+        assertEquals(0.25, copy.getLoadFactor());
+        assertEquals(sparse, copy);
+    }
+
+    @Test
+    void testReadsVersion1Snapshot() throws IOException {
+        hashTable.put("a", 1);
+        byte[] bytes = write(hashTable.snapshot());
+        ByteBuffer v1 = ByteBuffer.allocate(bytes.length - Double.BYTES);
+        v1.put(bytes, 0, 24).put(bytes, 32, bytes.length - 32);
+        v1.putInt(4, 1);
+
+        HashTable<String, Integer> copy = read(v1.array());
+
+        assertEquals(hashTable, copy);
+        assertEquals(0.75, copy.getLoadFactor());
+    }
+
+    @Test
+    void testReadRejectsBadInput() throws IOException {
+        hashTable.put("a", 1);
+        byte[] bytes = write(hashTable.snapshot());
+
+        byte[] corrupt = bytes.clone();
+        corrupt[0] ^= 1;
+        assertThrows(IOException.class, () -> read(corrupt));
+        assertThrows(EOFException.class, () -> read(Arrays.copyOf(bytes, bytes.length - 1)));
+        byte[] badLoadFactor = bytes.clone();
+        ByteBuffer.wrap(badLoadFactor).putDouble(24, -1);
+        assertThrows(IOException.class, () -> read(badLoadFactor));
+        assertThrows(IOException.class, () -> HashTableSnapshot.read(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), Codec.strings(8), Codec.ints()));
+    }
+}
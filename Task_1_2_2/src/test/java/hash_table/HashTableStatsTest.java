@@ -0,0 +1,120 @@
+package hash_table;
+
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashTableStatsTest {
+
+    @Test
+    void testCountersStayZeroWhenDisabled() {
+        HashTable<String, Integer> table = new HashTable<>();
+        table.put("a", 1);
+        table.getOrDefault("a", 0);
+
+        HashTableStats stats = table.getStats();
+        assertFalse(table.isStatisticsEnabled());
+        assertEquals(1, stats.getSize());
+        assertEquals(0, stats.getLookupCount());
+        assertEquals(0, stats.getInsertCount());
+        assertEquals(0, stats.getRehashCount());
+    }
+
+    @Test
+    void testOperationCounters() throws KeyNotFoundException, EmptyHashTableException {
+        HashTable<String, Integer> table = new HashTable<>();
+        table.setStatisticsEnabled(true);
+        table.put("a", 1);
+        table.put("b", 2);
+        table.put("a", 3);
+        table.get("a");
+        table.containsKey("missing");
+        table.remove("b");
+
+        HashTableStats stats = table.getStats();
+        assertEquals(6, stats.getLookupCount());
+        assertEquals(3, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(2, stats.getInsertCount());
+        assertEquals(1, stats.getRemoveCount());
+        assertEquals(0, stats.getRehashCount());
+        assertTrue(stats.getAverageProbeLength() >= 0.5);
+    }
+
+    @Test
+    void testRehashIsCountedAndTimed() {
+        HashTable<Integer, Integer> table = new HashTable<>();
+        table.setStatisticsEnabled(true);
+        for (int i = 0; i < 1000; i++) {
+            table.put(i, i);
+        }
+
+        HashTableStats stats = table.getStats();
+        assertEquals(7, stats.getRehashCount());
+        assertTrue(stats.getRehashTimeNanos() > 0);
+        assertEquals(1000, stats.getInsertCount());
+    }
+
+    @Test
+    void testChainLengthHistogram() {
+        HashTable<Integer, Integer> table = new HashTable<>(key -> key % 4 == 0 ? 0 : key);
+        for (int i = 0; i < 8; i++) {
+            table.put(i, i);
+        }
+
+        HashTableStats stats = table.getStats();
+        long[] histogram = stats.getChainLengthHistogram();
+        assertEquals(HashTableStats.HISTOGRAM_SIZE, histogram.length);
+        assertEquals(1, histogram[2]);
+        assertEquals(6, histogram[1]);
+        assertEquals(16 - 7, histogram[0]);
+        assertEquals(7, stats.getNonEmptyBucketCount());
+        assertEquals(2, stats.getMaxChainLength());
+        assertEquals(8.0 / 7, stats.getAverageChainLength(), 1e-9);
+        assertEquals(8.0 / 16, stats.getLoad(), 1e-9);
+        assertEquals(16, stats.getCapacity());
+    }
+
+    @Test
+    void testLongChainsAndTrees() {
+        HashTable<Integer, Integer> table = new HashTable<>(key -> 0);
+        for (int i = 0; i < 40; i++) {
+            table.put(i, i);
+        }
+
+        HashTableStats stats = table.getStats();
+        assertEquals(40, stats.getMaxChainLength());
+        assertEquals(1, stats.getChainLengthHistogram()[HashTableStats.HISTOGRAM_SIZE - 1]);
+        assertEquals(1, stats.getTreeBucketCount());
+    }
+
+    @Test
+    void testStatsDuringRehash() {
+        HashTable<Integer, Integer> table = new HashTable<>(key -> key);
+        for (int i = 0; i < 14; i++) {
+            table.put(i, i);
+        }
+        assertTrue(table.isRehashing());
+
+        HashTableStats stats = table.getStats();
+        assertEquals(14, stats.getSize());
+        assertEquals(14, stats.getNonEmptyBucketCount());
+        assertEquals(1, stats.getMaxChainLength());
+    }
+
+    @Test
+    void testDisablingDropsCounts() {
+        HashTable<String, Integer> table = new HashTable<>();
+        table.setStatisticsEnabled(true);
+        table.put("a", 1);
+        table.setStatisticsEnabled(true);
+        assertEquals(1, table.getStats().getInsertCount());
+
+        table.setStatisticsEnabled(false);
+        table.setStatisticsEnabled(true);
+        assertEquals(0, table.getStats().getInsertCount());
+        assertTrue(table.getStats().toString().contains("size=1"));
+    }
+}
@@ -1,13 +1,25 @@
 package hash_table;
 
 import hash_table.core.Entry;
+import hash_table.core.HashStrategy;
 import hash_table.exception.EmptyHashTableException;
 import hash_table.exception.KeyNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -159,6 +171,143 @@ class HashTableTest {
         assertTrue(hashTable.containsKey("key19"));
     }
 
+    @Test
+    void testIncrementalRehash() throws KeyNotFoundException, EmptyHashTableException {
+        for (int i = 0; i < 13; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        assertTrue(hashTable.isRehashing());
+        assertEquals(16, hashTable.getOldBuckets().length);
+        assertEquals(32, hashTable.getBuckets().length);
+        for (int i = 0; i < 13; i++) {
+            assertEquals(i, hashTable.get("key" + i));
+        }
+
+        hashTable.put("key13", 13);
+        hashTable.remove("key0");
+        assertEquals(13, hashTable.getSize());
+        assertFalse(hashTable.isRehashing());
+        assertNull(hashTable.getOldBuckets());
+        for (int i = 1; i < 14; i++) {
+            assertEquals(i, hashTable.get("key" + i));
+        }
+    }
+
+    @Test
+    void testRemoveFromMigratedTreeBucket() throws KeyNotFoundException, EmptyHashTableException {
+        HashTable<String, Integer> table = new HashTable<>(key -> 0);
+        for (int i = 0; i < 13; i++) {
+            table.put("k" + i, i);
+        }
+        assertTrue(table.isRehashing());
+        table.put("k13", 13);
+
+        assertEquals(0, table.remove("k0"));
+        assertEquals(13, table.getSize());
+        assertFalse(table.containsKey("k0"));
+        int count = 0;
+        for (Entry<String, Integer> entry : table) {
+            count++;
+        }
+        assertEquals(13, count);
+
+        for (int i = 1; i < 14; i++) {
+            assertTrue(table.removeIfPresent("k" + i));
+            assertFalse(table.containsKey("k" + i));
+        }
+        assertTrue(table.isEmpty());
+        assertFalse(table.iterator().hasNext());
+    }
+
+    @Test
+    void testRehashFinishesBeforeNextResize() throws KeyNotFoundException, EmptyHashTableException {
+        int capacity = 16;
+        for (int i = 0; i < 10000; i++) {
+            hashTable.put("key" + i, i);
+            if (hashTable.getBuckets().length != capacity) {
+                assertTrue(hashTable.isRehashing());
+                assertEquals(capacity, hashTable.getOldBuckets().length);
+                capacity = hashTable.getBuckets().length;
+            }
+        }
+
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, hashTable.get("key" + i));
+        }
+        for (int i = 0; i < 9990; i++) {
+            assertEquals(i, hashTable.remove("key" + i));
+        }
+        assertEquals(10, hashTable.getSize());
+        for (int i = 9990; i < 10000; i++) {
+            assertTrue(hashTable.containsKey("key" + i));
+        }
+    }
+
+    @Test
+    void testRehashNeverDrainsAtAnyLoadFactor() {
+        for (double loadFactor : new double[] {0.1, 0.25, 0.75, 1.0, 3.0, 10.0}) {
+            HashTable<Integer, Integer> table = new HashTable<>(0, loadFactor);
+            int step = (int) Math.max(8, Math.ceil(4 / loadFactor));
+            int[] opsSinceStart = new int[1];
+
+            for (int i = 0; i < 20000; i++) {
+                int key = i;
+                checkPacing(table, step, opsSinceStart, () -> table.put(key, key));
+            }
+            for (int i = 0; i < 19990; i++) {
+                int key = i;
+                checkPacing(table, step, opsSinceStart, () -> table.removeIfPresent(key));
+            }
+            for (int i = 20000; i < 40000; i++) {
+                int key = i;
+                checkPacing(table, step, opsSinceStart, () -> table.put(key, key));
+            }
+
+            assertEquals(20010, table.getSize());
+            for (int i = 19990; i < 40000; i++) {
+                assertEquals(i, table.getOrDefault(i, null));
+            }
+        }
+    }
+
+    /**
+     * Runs one structural operation and, if it starts a rehash while another was
+     * running, checks that the operations since that one started could have migrated
+     * all of its buckets a step at a time.
+     */
+    private static void checkPacing(HashTable<Integer, Integer> table, int step, int[] opsSinceStart,
+                                    Runnable operation) {
+        Entry<Integer, Integer>[] before = table.getOldBuckets();
+        operation.run();
+        opsSinceStart[0]++;
+        Entry<Integer, Integer>[] after = table.getOldBuckets();
+        if (after != null && after != before) {
+            if (before != null) {
+                assertTrue((long) opsSinceStart[0] * step >= before.length);
+            }
+            opsSinceStart[0] = 0;
+        }
+    }
+
+    @Test
+    void testNoResizeThrashAtBoundary() throws KeyNotFoundException, EmptyHashTableException {
+        for (int i = 0; i < 25; i++) {
+            hashTable.put("key" + i, i);
+        }
+        while (hashTable.isRehashing()) {
+            hashTable.put("extra", 0);
+            hashTable.remove("extra");
+        }
+        Entry<String, Integer>[] buckets = hashTable.getBuckets();
+
+        for (int i = 0; i < 100; i++) {
+            hashTable.put("extra", i);
+            hashTable.remove("extra");
+        }
+        assertSame(buckets, hashTable.getBuckets());
+    }
+
     @Test
     void testEquals() {
         HashTable<String, Integer> other = new HashTable<>();
@@ -223,6 +372,639 @@ class HashTableTest {
         assertEquals(2, table.getSize());
     }
 
+    @Test
+    void testCustomHashStrategy() throws KeyNotFoundException, EmptyHashTableException {
+        int[] calls = {0};
+        HashTable<String, Integer> table = new HashTable<>(key -> {
+            calls[0]++;
+            return key == null ? 0 : key.length();
+        });
+
+        for (int i = 0; i < 100; i++) {
+            table.put("key" + i, i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, table.get("key" + i));
+        }
+        assertTrue(calls[0] >= 200);
+    }
+
+    @Test
+    void testTreeifiedBucketWithIncomparableKeys() throws KeyNotFoundException, EmptyHashTableException {
+        HashTable<TestKey, Integer> table = new HashTable<>();
+        for (int i = 0; i < 200; i++) {
+            table.put(new TestKey("k" + i, 7), i);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, table.get(new TestKey("k" + i, 7)));
+        }
+        table.put(new TestKey("k5", 7), -5);
+        assertEquals(-5, table.get(new TestKey("k5", 7)));
+        assertEquals(200, table.getSize());
+
+        for (int i = 0; i < 195; i++) {
+            assertEquals(i == 5 ? -5 : i, table.remove(new TestKey("k" + i, 7)));
+        }
+        assertEquals(5, table.getSize());
+        assertFalse(table.containsKey(new TestKey("k0", 7)));
+        for (int i = 195; i < 200; i++) {
+            assertTrue(table.containsKey(new TestKey("k" + i, 7)));
+        }
+    }
+
+    @Test
+    void testTreeifiedBucketWithComparableKeys() throws KeyNotFoundException, EmptyHashTableException {
+        HashTable<String, Integer> table = new HashTable<>(key -> 0);
+        for (int i = 0; i < 500; i++) {
+            table.put("key" + i, i);
+        }
+
+        int count = 0;
+        for (Entry<String, Integer> entry : table) {
+            assertEquals(entry.getKey(), "key" + entry.getValue());
+            count++;
+        }
+        assertEquals(500, count);
+
+        for (int i = 0; i < 500; i += 2) {
+            table.remove("key" + i);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i % 2 == 1, table.containsKey("key" + i));
+        }
+        table.update("key1", 100);
+        assertEquals(100, table.get("key1"));
+    }
+
+    @Test
+    void testGetOrDefault() {
+        assertEquals(-1, hashTable.getOrDefault("key1", -1));
+
+        hashTable.put("key1", 100);
+        hashTable.put("key2", null);
+        assertEquals(100, hashTable.getOrDefault("key1", -1));
+        assertNull(hashTable.getOrDefault("key2", -1));
+        assertEquals(-1, hashTable.getOrDefault("key3", -1));
+    }
+
+    @Test
+    void testPutIfAbsent() throws KeyNotFoundException, EmptyHashTableException {
+        assertNull(hashTable.putIfAbsent("key1", 100));
+        assertEquals(100, hashTable.putIfAbsent("key1", 200));
+        assertEquals(100, hashTable.get("key1"));
+
+        hashTable.put("key2", null);
+        assertNull(hashTable.putIfAbsent("key2", 300));
+        assertEquals(300, hashTable.get("key2"));
+        assertEquals(2, hashTable.getSize());
+    }
+
+    @Test
+    void testComputeIfAbsent() throws KeyNotFoundException, EmptyHashTableException {
+        int[] calls = {0};
+
+        assertEquals(4, hashTable.computeIfAbsent("key1", key -> {
+            calls[0]++;
+            return key.length();
+        }));
+        assertEquals(4, hashTable.computeIfAbsent("key1", key -> {
+            calls[0]++;
+            return 0;
+        }));
+        assertEquals(1, calls[0]);
+
+        assertNull(hashTable.computeIfAbsent("key2", key -> null));
+        assertFalse(hashTable.containsKey("key2"));
+        assertEquals(4, hashTable.get("key1"));
+        assertEquals(1, hashTable.getSize());
+    }
+
+    @Test
+    void testCompute() throws KeyNotFoundException, EmptyHashTableException {
+        assertEquals(1, hashTable.compute("key1", (key, value) -> value == null ? 1 : value + 1));
+        assertEquals(2, hashTable.compute("key1", (key, value) -> value == null ? 1 : value + 1));
+        assertEquals(2, hashTable.get("key1"));
+
+        assertNull(hashTable.compute("key1", (key, value) -> null));
+        assertFalse(hashTable.containsKey("key1"));
+        assertTrue(hashTable.isEmpty());
+
+        assertNull(hashTable.compute("key2", (key, value) -> null));
+        assertTrue(hashTable.isEmpty());
+    }
+
+    @Test
+    void testMerge() throws KeyNotFoundException, EmptyHashTableException {
+        for (String word : "a b a c a b".split(" ")) {
+            hashTable.merge(word, 1, Integer::sum);
+        }
+
+        assertEquals(3, hashTable.get("a"));
+        assertEquals(2, hashTable.get("b"));
+        assertEquals(1, hashTable.get("c"));
+
+        assertNull(hashTable.merge("a", 1, (current, value) -> null));
+        assertFalse(hashTable.containsKey("a"));
+        assertThrows(IllegalArgumentException.class, () -> hashTable.merge("b", null, Integer::sum));
+    }
+
+    @Test
+    void testRemoveIfPresent() {
+        assertFalse(hashTable.removeIfPresent("key1"));
+
+        hashTable.put("key1", 100);
+        hashTable.put("key2", 200);
+        assertTrue(hashTable.removeIfPresent("key1"));
+        assertFalse(hashTable.removeIfPresent("key1"));
+        assertFalse(hashTable.containsKey("key1"));
+        assertEquals(1, hashTable.getSize());
+    }
+
+    @Test
+    void testFunctionModifyingTable() {
+        assertThrows(ConcurrentModificationException.class,
+                () -> hashTable.computeIfAbsent("key1", key -> {
+                    hashTable.put("key2", 2);
+                    return 1;
+                }));
+    }
+
+    @Test
+    void testLookupApiOnCollidingKeys() throws KeyNotFoundException, EmptyHashTableException {
+        HashTable<TestKey, Integer> table = new HashTable<>();
+        for (int i = 0; i < 50; i++) {
+            table.merge(new TestKey("k" + (i % 20), 3), 1, Integer::sum);
+        }
+
+        assertEquals(20, table.getSize());
+        assertEquals(3, table.get(new TestKey("k0", 3)));
+        assertEquals(2, table.get(new TestKey("k19", 3)));
+
+        for (int i = 0; i < 20; i += 2) {
+            assertTrue(table.removeIfPresent(new TestKey("k" + i, 3)));
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i % 2 == 1 ? 2 + (i < 10 ? 1 : 0) : -1, table.getOrDefault(new TestKey("k" + i, 3), -1));
+        }
+    }
+
+    @Test
+    void testReadsInsideRemappingFunctions() {
+        for (int i = 0; i < 6; i++) {
+            hashTable.put("k" + i, i);
+        }
+        assertNull(hashTable.compute("k1", (key, value) -> {
+            hashTable.containsKey("zz");
+            return null;
+        }));
+        assertEquals(5, hashTable.getSize());
+        assertFalse(hashTable.containsKey("k1"));
+        assertEquals(5, countEntries(hashTable));
+
+        HashTable<String, Integer> colliding = new HashTable<>(key -> 0);
+        for (int i = 0; i < 5; i++) {
+            colliding.put("k" + i, i);
+        }
+        assertNull(colliding.merge("k0", 1, (x, y) -> {
+            colliding.containsKey("k3");
+            return null;
+        }));
+        assertEquals(4, colliding.getSize());
+        assertFalse(colliding.containsKey("k0"));
+        assertEquals(4, countEntries(colliding));
+
+        assertEquals(7, colliding.compute("k1", (key, value) -> colliding.getOrDefault("k4", 0) + 3));
+        assertEquals(7, colliding.getOrDefault("k1", null));
+        assertEquals(4, countEntries(colliding));
+    }
+
+    @Test
+    void testComputeIfAbsentReadingAnotherBucket() {
+        HashTable<Integer, Integer> table = new HashTable<>(key -> key < 100 ? 0 : key);
+        for (int i = 0; i < HashTable.TREEIFY_THRESHOLD; i++) {
+            table.put(i, i);
+        }
+        table.put(200, 200);
+
+        // The read walks the short chain of key 200 before the long chain gets its new key.
+        assertEquals(50, table.computeIfAbsent(50, key -> table.getOrDefault(200, 0) / 4));
+        assertEquals(HashTable.TREEIFY_THRESHOLD + 2, countEntries(table));
+        assertEquals(1, table.getStats().getTreeBucketCount());
+
+        // And the other way round: a long chain read must not treeify a short bucket.
+        assertEquals(300, table.computeIfAbsent(300, key -> table.containsKey(99) ? -1 : key));
+        assertEquals(1, table.getStats().getTreeBucketCount());
+        for (int i = 0; i < HashTable.TREEIFY_THRESHOLD; i++) {
+            assertTrue(table.removeIfPresent(i));
+        }
+        assertEquals(50, table.getOrDefault(50, null));
+        assertEquals(200, table.getOrDefault(200, null));
+        assertEquals(300, table.getOrDefault(300, null));
+        assertEquals(3, countEntries(table));
+    }
+
+    private static int countEntries(HashTable<?, ?> table) {
+        int count = 0;
+        for (Entry<?, ?> entry : table) {
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    void testLookupApiDuringRehash() {
+        Random random = new Random(17);
+        Map<Integer, Integer> expected = new HashMap<>();
+        HashTable<Integer, Integer> table = new HashTable<>();
+
+        for (int i = 0; i < 50000; i++) {
+            int key = random.nextInt(3000);
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expected.merge(key, 1, Integer::sum), table.merge(key, 1, Integer::sum));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key) != null, table.removeIfPresent(key));
+                    break;
+                case 2:
+                    assertEquals(expected.computeIfAbsent(key, k -> k), table.computeIfAbsent(key, k -> k));
+                    break;
+                default:
+                    assertEquals(expected.putIfAbsent(key, -key), table.putIfAbsent(key, -key));
+                    break;
+            }
+        }
+
+        assertEquals(expected.size(), table.getSize());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), table.getOrDefault(entry.getKey(), null));
+        }
+    }
+
+    @Test
+    void testExpectedSizeConstructor() {
+        HashTable<Integer, Integer> table = new HashTable<>(1000, 0.5);
+        Entry<Integer, Integer>[] buckets = table.getBuckets();
+
+        assertEquals(0.5, table.getLoadFactor());
+        assertTrue(buckets.length >= 2000);
+        for (int i = 0; i < 1000; i++) {
+            table.put(i, i);
+        }
+        assertSame(buckets, table.getBuckets());
+        assertFalse(table.isRehashing());
+    }
+
+    @Test
+    void testInvalidConstructorArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HashTable<String, Integer>(-1, 0.75));
+        assertThrows(IllegalArgumentException.class, () -> new HashTable<String, Integer>(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HashTable<String, Integer>(10, Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashTable<String, Integer>(10, Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> new HashTable<String, Integer>(10, 0.75, null));
+    }
+
+    @Test
+    void testPutAllFromMap() throws KeyNotFoundException, EmptyHashTableException {
+        Map<String, Integer> source = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            source.put("key" + i, i);
+        }
+        hashTable.put("key0", -1);
+        hashTable.put("extra", 1);
+
+        hashTable.putAll(source);
+
+        assertEquals(501, hashTable.getSize());
+        assertEquals(0, hashTable.get("key0"));
+        assertEquals(499, hashTable.get("key499"));
+        assertTrue(hashTable.getBuckets().length >= 501 / 0.75);
+    }
+
+    @Test
+    void testPutAllWithSizeHint() throws KeyNotFoundException, EmptyHashTableException {
+        HashTable<String, Integer> source = new HashTable<>();
+        for (int i = 0; i < 200; i++) {
+            source.put("key" + i, i);
+        }
+
+        hashTable.putAll(source, source.getSize());
+        Entry<String, Integer>[] buckets = hashTable.getBuckets();
+        hashTable.putAll(source, -5);
+
+        assertSame(buckets, hashTable.getBuckets());
+        assertEquals(200, hashTable.getSize());
+        assertEquals(source, hashTable);
+        assertEquals(150, hashTable.get("key150"));
+    }
+
+    @Test
+    void testEnsureCapacity() throws KeyNotFoundException, EmptyHashTableException {
+        for (int i = 0; i < 10; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        hashTable.ensureCapacity(10000);
+        int capacity = hashTable.getBuckets().length;
+        for (int i = 10; i < 10000; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        assertEquals(capacity, hashTable.getBuckets().length);
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, hashTable.get("key" + i));
+        }
+    }
+
+    @Test
+    void testParallelBuildMatchesSequentialPuts() {
+        Random random = new Random(18);
+        Integer[] keys = new Integer[200000];
+        Integer[] values = new Integer[keys.length];
+        HashTable<Integer, Integer> expected = new HashTable<>();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(150000);
+            values[i] = i;
+            expected.put(keys[i], values[i]);
+        }
+
+        HashTable<Integer, Integer> table = HashTable.parallelBuild(keys, values, HashStrategy.defaultStrategy(), 4);
+
+        assertEquals(expected.getSize(), table.getSize());
+        assertEquals(expected, table);
+        table.put(-1, -1);
+        assertTrue(table.removeIfPresent(keys[0]));
+    }
+
+    @Test
+    void testParallelBuildWithCollidingKeys() throws KeyNotFoundException, EmptyHashTableException {
+        TestKey[] keys = new TestKey[100000];
+        Integer[] values = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int id = i % 50000;
+            keys[i] = new TestKey("k" + id, id % 1000 == 0 ? 42 : id);
+            values[i] = i;
+        }
+
+        HashTable<TestKey, Integer> table = HashTable.parallelBuild(keys, values, HashStrategy.defaultStrategy(), 3);
+
+        assertEquals(50000, table.getSize());
+        assertEquals(50000, table.get(new TestKey("k0", 42)));
+        assertEquals(99999, table.get(new TestKey("k49999", 49999)));
+        int count = 0;
+        for (Entry<TestKey, Integer> ignored : table) {
+            count++;
+        }
+        assertEquals(50000, count);
+    }
+
+    @Test
+    void testParallelBuildOnCallerPool() {
+        Integer[] keys = new Integer[100000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            HashTable<Integer, Integer> first = HashTable.parallelBuild(keys, keys, HashStrategy.defaultStrategy(), pool);
+            HashTable<Integer, Integer> second = HashTable.parallelBuild(keys, keys, HashStrategy.defaultStrategy(), pool);
+
+            assertFalse(pool.isShutdown());
+            assertEquals(keys.length, first.getSize());
+            assertEquals(first, second);
+        } finally {
+            pool.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> HashTable.parallelBuild(keys, keys, HashStrategy.defaultStrategy(), (ForkJoinPool) null));
+    }
+
+    @Test
+    void testParallelBuildSmallInput() throws KeyNotFoundException, EmptyHashTableException {
+        HashTable<String, Integer> table = HashTable.parallelBuild(new String[] {"a", "b", "a"}, new Integer[] {1, 2, 3});
+
+        assertEquals(2, table.getSize());
+        assertEquals(3, table.get("a"));
+        assertThrows(IllegalArgumentException.class,
+                () -> HashTable.parallelBuild(new String[] {"a"}, new Integer[0]));
+        assertThrows(IllegalArgumentException.class,
+                () -> HashTable.parallelBuild(new String[0], new Integer[0], HashStrategy.defaultStrategy(), 0));
+    }
+
+    @Test
+    void testStream() {
+        for (int i = 0; i < 100; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        assertEquals(100, hashTable.stream().count());
+        assertEquals(4950, hashTable.stream().mapToInt(Entry::getValue).sum());
+        assertTrue(hashTable.stream().anyMatch(entry -> entry.getKey().equals("key42")));
+
+        hashTable.stream().forEach(entry -> entry.setValue(entry.getValue() + 1));
+        assertEquals(5050, hashTable.stream().mapToInt(Entry::getValue).sum());
+    }
+
+    @Test
+    void testParallelStream() {
+        HashTable<Integer, Long> table = new HashTable<>();
+        long expected = 0;
+        for (int i = 0; i < 100000; i++) {
+            table.put(i, (long) i);
+            expected += i;
+        }
+
+        assertTrue(table.parallelStream().isParallel());
+        assertEquals(expected, table.parallelStream().mapToLong(Entry::getValue).sum());
+        assertEquals(100000, table.parallelStream().map(Entry::getKey).distinct().count());
+    }
+
+    @Test
+    void testForEachBiConsumer() {
+        hashTable.put("a", 1);
+        hashTable.put("b", 2);
+        hashTable.put(null, 3);
+
+        int[] sum = {0};
+        Set<String> keys = new HashSet<>();
+        hashTable.forEach((key, value) -> {
+            keys.add(key);
+            sum[0] += value;
+        });
+
+        assertEquals(6, sum[0]);
+        assertEquals(3, keys.size());
+        assertThrows(ConcurrentModificationException.class,
+                () -> hashTable.forEach((key, value) -> hashTable.put(key + "x", value)));
+    }
+
+    @Test
+    void testEqualsSkippedOnHashMismatch() throws KeyNotFoundException, EmptyHashTableException {
+        int[] equalsCalls = new int[1];
+        HashTable<CountingKey, Integer> table = new HashTable<>(key -> key.hash);
+        table.put(new CountingKey("a", 1, equalsCalls), 1);
+        table.put(new CountingKey("b", 17, equalsCalls), 2);
+        table.put(new CountingKey("c", 33, equalsCalls), 3);
+        equalsCalls[0] = 0;
+
+        assertEquals(1, table.get(new CountingKey("a", 1, equalsCalls)));
+        assertFalse(table.containsKey(new CountingKey("d", 49, equalsCalls)));
+        assertEquals(1, equalsCalls[0]);
+    }
+
+    @Test
+    void testEntryPooling() throws KeyNotFoundException, EmptyHashTableException {
+        hashTable.setEntryPoolSize(4);
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 10; i++) {
+                hashTable.put("key" + (round * 10 + i), i);
+            }
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i, hashTable.remove("key" + (round * 10 + i)));
+            }
+        }
+        assertTrue(hashTable.isEmpty());
+
+        hashTable.put("a", 1);
+        hashTable.put("b", 2);
+        assertTrue(hashTable.removeIfPresent("a"));
+        hashTable.put("c", 3);
+        assertEquals(2, hashTable.getSize());
+        assertEquals(2, hashTable.get("b"));
+        assertEquals(3, hashTable.get("c"));
+        assertFalse(hashTable.containsKey("a"));
+
+        hashTable.setEntryPoolSize(0);
+        assertThrows(IllegalArgumentException.class, () -> hashTable.setEntryPoolSize(-1));
+    }
+
+    @Test
+    void testSortedEntriesFollowChanges() {
+        for (int i = 0; i < 100; i++) {
+            hashTable.put("key" + (i * 37 % 100), i);
+        }
+        Collection<Entry<String, Integer>> sorted = hashTable.sortedEntries();
+        assertEquals(100, sorted.size());
+        assertSorted(sorted);
+
+        hashTable.put("a", -1);
+        hashTable.put(null, 0);
+        hashTable.removeIfPresent("key50");
+        hashTable.put("key1", 1000);
+
+        assertEquals(101, sorted.size());
+        Iterator<Entry<String, Integer>> iterator = sorted.iterator();
+        assertNull(iterator.next().getKey());
+        assertEquals("a", iterator.next().getKey());
+        assertSorted(hashTable.sortedEntries());
+        assertThrows(UnsupportedOperationException.class, () -> sorted.remove(sorted.iterator().next()));
+
+        hashTable.clear();
+        assertTrue(sorted.isEmpty());
+    }
+
+    @Test
+    void testSortedEntriesWithComparator() {
+        hashTable.put("bb", 1);
+        hashTable.put("a", 2);
+        hashTable.put("ccc", 3);
+        Comparator<String> byLengthDescending = Comparator.comparing(String::length).reversed();
+
+        List<String> keys = new ArrayList<>();
+        for (Entry<String, Integer> entry : hashTable.sortedEntries(byLengthDescending)) {
+            keys.add(entry.getKey());
+        }
+        assertEquals(List.of("ccc", "bb", "a"), keys);
+
+        Collection<Entry<String, Integer>> sorted = hashTable.sortedEntries(byLengthDescending);
+        hashTable.put("dd", 4);
+        assertTrue(hashTable.containsKey("dd"));
+        assertThrows(IllegalArgumentException.class, () -> hashTable.sortedEntries(byLengthDescending));
+        assertThrows(IllegalArgumentException.class, sorted::iterator);
+        assertThrows(IllegalArgumentException.class, () -> hashTable.sortedEntries(null));
+    }
+
+    @Test
+    void testSortedEntriesViewsStayLive() {
+        hashTable.put("b", 1);
+        hashTable.put("a", 2);
+        Collection<Entry<String, Integer>> natural = hashTable.sortedEntries();
+        Collection<Entry<String, Integer>> reversed = hashTable.sortedEntries(Comparator.reverseOrder());
+
+        hashTable.dropSortedIndex();
+        hashTable.put("c", 3);
+
+        assertEquals(List.of("a", "b", "c"), keysOf(natural));
+        assertEquals(List.of("c", "b", "a"), keysOf(reversed));
+        assertEquals(List.of("a", "b", "c"), keysOf(natural));
+    }
+
+    @Test
+    void testSortedEntriesIteratorFailsFast() {
+        hashTable.put("b", 1);
+        hashTable.put("a", 2);
+        Iterator<Entry<String, Integer>> iterator = hashTable.sortedEntries().iterator();
+        assertEquals("a", iterator.next().getKey());
+
+        hashTable.put("c", 3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void testSortedEntriesWithEntryPool() {
+        hashTable.setEntryPoolSize(4);
+        hashTable.put("b", 1);
+        hashTable.put("a", 2);
+        assertEquals(List.of("a", "b"), keysOf(hashTable.sortedEntries()));
+
+        hashTable.removeIfPresent("a");
+        hashTable.put("c", 3);
+
+        assertEquals(List.of("b", "c"), keysOf(hashTable.sortedEntries()));
+    }
+
+    private static List<String> keysOf(Iterable<Entry<String, Integer>> entries) {
+        List<String> keys = new ArrayList<>();
+        for (Entry<String, Integer> entry : entries) {
+            keys.add(entry.getKey());
+        }
+        return keys;
+    }
+
+    @Test
+    void testSortedEntriesAfterSnapshot() throws KeyNotFoundException, EmptyHashTableException {
+        hashTable.put("b", 1);
+        hashTable.put("a", 2);
+        Collection<Entry<String, Integer>> sorted = hashTable.sortedEntries();
+        hashTable.snapshot();
+
+        hashTable.update("a", 20);
+
+        assertEquals(20, sorted.iterator().next().getValue());
+    }
+
+    private static void assertSorted(Iterable<Entry<String, Integer>> entries) {
+        String previous = null;
+        boolean first = true;
+        for (Entry<String, Integer> entry : entries) {
+            if (!first && previous != null) {
+                assertTrue(previous.compareTo(entry.getKey()) < 0);
+            }
+            previous = entry.getKey();
+            first = false;
+        }
+    }
+
+    @Test
+    void testNullHashStrategy() {
+        assertThrows(IllegalArgumentException.class, () -> new HashTable<String, Integer>(null));
+    }
+
     private static class TestKey {
         private final String name;
         private final int hash;
@@ -245,4 +1027,27 @@ class HashTableTest {
             return name.equals(other.name);
         }
     }
+
+    private static class CountingKey {
+        private final String name;
+        private final int hash;
+        private final int[] equalsCalls;
+
+        CountingKey(String name, int hash, int[] equalsCalls) {
+            this.name = name;
+            this.hash = hash;
+            this.equalsCalls = equalsCalls;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            equalsCalls[0]++;
+            return obj instanceof CountingKey && name.equals(((CountingKey) obj).name);
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package hash_table;
+
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntIntHashTableTest extends PrimitiveHashTableTest<IntIntHashTable> {
+    @Override
+    IntIntHashTable create() {
+        return new IntIntHashTable();
+    }
+
+    @Override
+    IntIntHashTable create(int expectedSize) {
+        return new IntIntHashTable(expectedSize);
+    }
+
+    @Override
+    void put(IntIntHashTable table, long key, double value) {
+        table.put((int) key, (int) value);
+    }
+
+    @Override
+    double get(IntIntHashTable table, long key) throws KeyNotFoundException, EmptyHashTableException {
+        return table.get((int) key);
+    }
+
+    @Override
+    double getOrDefault(IntIntHashTable table, long key, double defaultValue) {
+        return table.getOrDefault((int) key, (int) defaultValue);
+    }
+
+    @Override
+    double addTo(IntIntHashTable table, long key, double delta) {
+        return table.addTo((int) key, (int) delta);
+    }
+
+    @Override
+    void update(IntIntHashTable table, long key, double value) throws KeyNotFoundException, EmptyHashTableException {
+        table.update((int) key, (int) value);
+    }
+
+    @Override
+    double remove(IntIntHashTable table, long key) throws KeyNotFoundException, EmptyHashTableException {
+        return table.remove((int) key);
+    }
+
+    @Override
+    boolean containsKey(IntIntHashTable table, long key) {
+        return table.containsKey((int) key);
+    }
+
+    @Override
+    int getSize(IntIntHashTable table) {
+        return table.getSize();
+    }
+
+    @Override
+    boolean isEmpty(IntIntHashTable table) {
+        return table.isEmpty();
+    }
+
+    @Override
+    void clear(IntIntHashTable table) {
+        table.clear();
+    }
+
+    @Override
+    int getCapacity(IntIntHashTable table) {
+        return table.getCapacity();
+    }
+
+    @Override
+    void forEach(IntIntHashTable table, BiConsumer<Long, Double> action) {
+        table.forEach((key, value) -> action.accept((long) key, (double) value));
+    }
+
+    @Override
+    String format(double value) {
+        return String.valueOf((int) value);
+    }
+
+    @Test
+    void testNegativeKeys() throws KeyNotFoundException, EmptyHashTableException {
+        hashTable.put(-1, 100);
+        hashTable.put(Integer.MIN_VALUE, 200);
+        hashTable.put(Integer.MAX_VALUE, 300);
+        hashTable.put(1, 400);
+
+        assertEquals(100, hashTable.get(-1));
+        assertEquals(200, hashTable.get(Integer.MIN_VALUE));
+        assertEquals(300, hashTable.get(Integer.MAX_VALUE));
+        assertEquals(400, hashTable.get(1));
+        assertEquals(4, hashTable.getSize());
+
+        assertEquals(200, hashTable.remove(Integer.MIN_VALUE));
+        assertFalse(hashTable.containsKey(Integer.MIN_VALUE));
+        assertEquals(-2, hashTable.addTo(-2, -2));
+        assertEquals(-2, hashTable.getOrDefault(-2, 0));
+        assertEquals(4, hashTable.getSize());
+    }
+
+    @Test
+    void testHashCodeMatchesBoxedMap() {
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int key : new int[] {0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+            hashTable.put(key, key * 3);
+            expected.put(key, key * 3);
+        }
+
+        assertEquals(expected.hashCode(), hashTable.hashCode());
+    }
+}
@@ -0,0 +1,132 @@
+package hash_table;
+
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongDoubleHashTableTest extends PrimitiveHashTableTest<LongDoubleHashTable> {
+    @Override
+    LongDoubleHashTable create() {
+        return new LongDoubleHashTable();
+    }
+
+    @Override
+    LongDoubleHashTable create(int expectedSize) {
+        return new LongDoubleHashTable(expectedSize);
+    }
+
+    @Override
+    void put(LongDoubleHashTable table, long key, double value) {
+        table.put(key, value);
+    }
+
+    @Override
+    double get(LongDoubleHashTable table, long key) throws KeyNotFoundException, EmptyHashTableException {
+        return table.get(key);
+    }
+
+    @Override
+    double getOrDefault(LongDoubleHashTable table, long key, double defaultValue) {
+        return table.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    double addTo(LongDoubleHashTable table, long key, double delta) {
+        return table.addTo(key, delta);
+    }
+
+    @Override
+    void update(LongDoubleHashTable table, long key, double value) throws KeyNotFoundException, EmptyHashTableException {
+        table.update(key, value);
+    }
+
+    @Override
+    double remove(LongDoubleHashTable table, long key) throws KeyNotFoundException, EmptyHashTableException {
+        return table.remove(key);
+    }
+
+    @Override
+    boolean containsKey(LongDoubleHashTable table, long key) {
+        return table.containsKey(key);
+    }
+
+    @Override
+    int getSize(LongDoubleHashTable table) {
+        return table.getSize();
+    }
+
+    @Override
+    boolean isEmpty(LongDoubleHashTable table) {
+        return table.isEmpty();
+    }
+
+    @Override
+    void clear(LongDoubleHashTable table) {
+        table.clear();
+    }
+
+    @Override
+    int getCapacity(LongDoubleHashTable table) {
+        return table.getCapacity();
+    }
+
+    @Override
+    void forEach(LongDoubleHashTable table, BiConsumer<Long, Double> action) {
+        table.forEach(action::accept);
+    }
+
+    @Override
+    String format(double value) {
+        return String.valueOf(value);
+    }
+
+    @Test
+    void testFractionalAddTo() {
+        assertEquals(3.0, hashTable.addTo(42L, 3.0));
+        assertEquals(5.5, hashTable.addTo(42L, 2.5));
+        assertEquals(5.5, hashTable.getOrDefault(42L, 0));
+    }
+
+    @Test
+    void testNaNValue() throws KeyNotFoundException, EmptyHashTableException {
+        LongDoubleHashTable other = new LongDoubleHashTable();
+        hashTable.put(1L, Double.NaN);
+        other.put(1L, Double.longBitsToDouble(0x7ff8000000000001L));
+
+        assertTrue(Double.isNaN(hashTable.get(1L)));
+        assertTrue(hashTable.equals(other));
+        assertEquals(hashTable.hashCode(), other.hashCode());
+        assertTrue(Double.isNaN(hashTable.addTo(1L, 1.0)));
+    }
+
+    @Test
+    void testNegativeZeroValue() throws KeyNotFoundException, EmptyHashTableException {
+        LongDoubleHashTable other = new LongDoubleHashTable();
+        hashTable.put(1L, -0.0);
+        other.put(1L, 0.0);
+
+        assertEquals(-0.0, hashTable.get(1L));
+        assertFalse(hashTable.equals(other));
+        assertNotEquals(hashTable.hashCode(), other.hashCode());
+        assertEquals("{1=-0.0}", hashTable.toString());
+    }
+
+    @Test
+    void testHashCodeMatchesBoxedMap() {
+        Map<Long, Double> expected = new HashMap<>();
+        for (long key : new long[] {0L, 1L, -1L, 1L << 40}) {
+            hashTable.put(key, key / 4.0);
+            expected.put(key, key / 4.0);
+        }
+        hashTable.put(2L, Double.NaN);
+        expected.put(2L, Double.NaN);
+
+        assertEquals(expected.hashCode(), hashTable.hashCode());
+    }
+}
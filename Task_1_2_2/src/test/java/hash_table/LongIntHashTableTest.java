@@ -0,0 +1,114 @@
+package hash_table;
+
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashTableTest extends PrimitiveHashTableTest<LongIntHashTable> {
+    @Override
+    LongIntHashTable create() {
+        return new LongIntHashTable();
+    }
+
+    @Override
+    LongIntHashTable create(int expectedSize) {
+        return new LongIntHashTable(expectedSize);
+    }
+
+    @Override
+    void put(LongIntHashTable table, long key, double value) {
+        table.put(key, (int) value);
+    }
+
+    @Override
+    double get(LongIntHashTable table, long key) throws KeyNotFoundException, EmptyHashTableException {
+        return table.get(key);
+    }
+
+    @Override
+    double getOrDefault(LongIntHashTable table, long key, double defaultValue) {
+        return table.getOrDefault(key, (int) defaultValue);
+    }
+
+    @Override
+    double addTo(LongIntHashTable table, long key, double delta) {
+        return table.addTo(key, (int) delta);
+    }
+
+    @Override
+    void update(LongIntHashTable table, long key, double value) throws KeyNotFoundException, EmptyHashTableException {
+        table.update(key, (int) value);
+    }
+
+    @Override
+    double remove(LongIntHashTable table, long key) throws KeyNotFoundException, EmptyHashTableException {
+        return table.remove(key);
+    }
+
+    @Override
+    boolean containsKey(LongIntHashTable table, long key) {
+        return table.containsKey(key);
+    }
+
+    @Override
+    int getSize(LongIntHashTable table) {
+        return table.getSize();
+    }
+
+    @Override
+    boolean isEmpty(LongIntHashTable table) {
+        return table.isEmpty();
+    }
+
+    @Override
+    void clear(LongIntHashTable table) {
+        table.clear();
+    }
+
+    @Override
+    int getCapacity(LongIntHashTable table) {
+        return table.getCapacity();
+    }
+
+    @Override
+    void forEach(LongIntHashTable table, BiConsumer<Long, Double> action) {
+        table.forEach((key, value) -> action.accept(key, (double) value));
+    }
+
+    @Override
+    String format(double value) {
+        return String.valueOf((int) value);
+    }
+
+    @Test
+    void testWideKeys() throws KeyNotFoundException, EmptyHashTableException {
+        hashTable.put(1L, 100);
+        hashTable.put(1L << 40, 200);
+        hashTable.put((1L << 40) + 1, 300);
+        hashTable.put(-1L, 400);
+
+        assertEquals(100, hashTable.get(1L));
+        assertEquals(200, hashTable.get(1L << 40));
+        assertEquals(300, hashTable.get((1L << 40) + 1));
+        assertEquals(400, hashTable.get(-1L));
+        assertFalse(hashTable.containsKey(0L));
+        assertEquals(4, hashTable.getSize());
+    }
+
+    @Test
+    void testHashCodeMatchesBoxedMap() {
+        Map<Long, Integer> expected = new HashMap<>();
+        for (long key : new long[] {0L, 1L, -1L, 1L << 40, Long.MIN_VALUE}) {
+            hashTable.put(key, (int) key * 3);
+            expected.put(key, (int) key * 3);
+        }
+
+        assertEquals(expected.hashCode(), hashTable.hashCode());
+    }
+}
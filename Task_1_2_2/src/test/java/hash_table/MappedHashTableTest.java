@@ -0,0 +1,240 @@
+package hash_table;
+
+import hash_table.core.Codec;
+import hash_table.core.Entry;
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedHashTableTest {
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private MappedHashTable<String, Integer> hashTable;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = tempDir.resolve("table.bin");
+        hashTable = MappedHashTable.open(file, Codec.strings(16), Codec.ints());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        hashTable.close();
+    }
+
+    @Test
+    void testPutAndGet() throws IOException, KeyNotFoundException, EmptyHashTableException {
+        hashTable.put("key1", 100);
+        hashTable.put("key2", 200);
+        hashTable.put("key1", 150);
+
+        assertEquals(150, hashTable.get("key1"));
+        assertEquals(200, hashTable.get("key2"));
+        assertEquals(2, hashTable.getSize());
+    }
+
+    @Test
+    void testGetFromEmptyTable() {
+        assertThrows(EmptyHashTableException.class, () -> hashTable.get("key1"));
+    }
+
+    @Test
+    void testGetNonExistentKey() throws IOException {
+        hashTable.put("key1", 100);
+        assertThrows(KeyNotFoundException.class, () -> hashTable.get("key2"));
+    }
+
+    @Test
+    void testNullKeyAndValue() {
+        assertThrows(IllegalArgumentException.class, () -> hashTable.put(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> hashTable.put("key", null));
+    }
+
+    @Test
+    void testUpdate() throws IOException, KeyNotFoundException, EmptyHashTableException {
+        hashTable.put("key1", 100);
+        hashTable.update("key1", 200);
+
+        assertEquals(200, hashTable.get("key1"));
+        assertThrows(KeyNotFoundException.class, () -> hashTable.update("key2", 1));
+    }
+
+    @Test
+    void testRemove() throws IOException, KeyNotFoundException, EmptyHashTableException {
+        hashTable.put("key1", 100);
+        hashTable.put("key2", 200);
+
+        assertEquals(100, hashTable.remove("key1"));
+        assertFalse(hashTable.containsKey("key1"));
+        assertTrue(hashTable.containsKey("key2"));
+        assertEquals(1, hashTable.getSize());
+        assertThrows(KeyNotFoundException.class, () -> hashTable.remove("key1"));
+    }
+
+    @Test
+    void testClear() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        hashTable.clear();
+
+        assertTrue(hashTable.isEmpty());
+        assertFalse(hashTable.containsKey("key5"));
+        assertFalse(hashTable.iterator().hasNext());
+    }
+
+    @Test
+    void testReopenKeepsMappings() throws IOException, KeyNotFoundException, EmptyHashTableException {
+        for (int i = 0; i < 1000; i++) {
+            hashTable.put("key" + i, i);
+        }
+        hashTable.remove("key7");
+        int capacity = hashTable.getCapacity();
+        hashTable.close();
+
+        hashTable = MappedHashTable.open(file, Codec.strings(16), Codec.ints());
+
+        assertEquals(999, hashTable.getSize());
+        assertEquals(capacity, hashTable.getCapacity());
+        assertFalse(hashTable.containsKey("key7"));
+        for (int i = 0; i < 1000; i++) {
+            if (i != 7) {
+                assertEquals(i, hashTable.get("key" + i));
+            }
+        }
+        assertFalse(Files.exists(tempDir.resolve("table.bin.rehash")));
+    }
+
+    @Test
+    void testReopenWithDifferentCodecs() throws IOException {
+        hashTable.put("key1", 100);
+        hashTable.close();
+
+        assertThrows(IOException.class, () -> MappedHashTable.open(file, Codec.strings(8), Codec.ints()));
+        assertThrows(IOException.class, () -> MappedHashTable.open(file, Codec.strings(16), Codec.longs()));
+    }
+
+    @Test
+    void testOpenRejectsForeignFile() throws IOException {
+        Path other = tempDir.resolve("other.bin");
+        Files.write(other, new byte[64]);
+
+        assertThrows(IOException.class, () -> MappedHashTable.open(other, Codec.longs(), Codec.longs()));
+    }
+
+    @Test
+    void testExpectedSize() throws IOException {
+        try (MappedHashTable<Long, Long> table = MappedHashTable.open(tempDir.resolve("sized.bin"),
+                Codec.longs(), Codec.longs(), 1000)) {
+            int capacity = table.getCapacity();
+            for (long i = 0; i < 1000; i++) {
+                table.put(i, i * i);
+            }
+            assertEquals(capacity, table.getCapacity());
+        }
+    }
+
+    @Test
+    void testManySegments() throws IOException, KeyNotFoundException, EmptyHashTableException {
+        try (MappedHashTable<Long, Double> table = MappedHashTable.open(tempDir.resolve("segments.bin"),
+                Codec.longs(), Codec.doubles(), 0, 100)) {
+            for (long i = 0; i < 5000; i++) {
+                table.put(i * 7919, i / 2.0);
+            }
+            for (long i = 0; i < 5000; i += 2) {
+                table.remove(i * 7919);
+            }
+            for (long i = 0; i < 5000; i++) {
+                assertEquals(i % 2 == 1, table.containsKey(i * 7919));
+            }
+            assertEquals(2.5, table.get(5L * 7919));
+        }
+    }
+
+    @Test
+    void testRandomOperationsMatchHashMap() throws IOException, KeyNotFoundException, EmptyHashTableException {
+        Random random = new Random(16);
+        Map<String, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 20000; i++) {
+            String key = "k" + random.nextInt(600);
+            int value = random.nextInt();
+            if (random.nextBoolean()) {
+                hashTable.put(key, value);
+                expected.put(key, value);
+            } else if (expected.remove(key) != null) {
+                hashTable.remove(key);
+            }
+        }
+
+        assertEquals(expected.size(), hashTable.getSize());
+        for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), hashTable.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    void testIterator() throws IOException {
+        hashTable.put("key1", 100);
+        hashTable.put("key2", 200);
+        hashTable.put("key3", 300);
+
+        Set<String> keys = new HashSet<>();
+        int sum = 0;
+        for (Entry<String, Integer> entry : hashTable) {
+            keys.add(entry.getKey());
+            sum += entry.getValue();
+        }
+
+        assertEquals(Set.of("key1", "key2", "key3"), keys);
+        assertEquals(600, sum);
+    }
+
+    @Test
+    void testIteratorFailFast() throws IOException {
+        hashTable.put("key1", 100);
+        hashTable.put("key2", 200);
+
+        Iterator<Entry<String, Integer>> iterator = hashTable.iterator();
+        iterator.next();
+        hashTable.put("key3", 300);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void testIteratorOnEmptyTable() {
+        Iterator<Entry<String, Integer>> iterator = hashTable.iterator();
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testToString() throws IOException {
+        assertEquals("{}", hashTable.toString());
+
+        hashTable.put("key1", 100);
+        assertEquals("{key1=100}", hashTable.toString());
+    }
+}
@@ -0,0 +1,274 @@
+package hash_table;
+
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behavior shared by the primitive tables. Keys and values go through {@code long} and
+ * {@code double}, so the checks here only use keys and values every variant can hold;
+ * the subclasses add the cases specific to their types.
+ */
+abstract class PrimitiveHashTableTest<T> {
+    protected T hashTable;
+
+    abstract T create();
+
+    abstract T create(int expectedSize);
+
+    abstract void put(T table, long key, double value);
+
+    abstract double get(T table, long key) throws KeyNotFoundException, EmptyHashTableException;
+
+    abstract double getOrDefault(T table, long key, double defaultValue);
+
+    abstract double addTo(T table, long key, double delta);
+
+    abstract void update(T table, long key, double value) throws KeyNotFoundException, EmptyHashTableException;
+
+    abstract double remove(T table, long key) throws KeyNotFoundException, EmptyHashTableException;
+
+    abstract boolean containsKey(T table, long key);
+
+    abstract int getSize(T table);
+
+    abstract boolean isEmpty(T table);
+
+    abstract void clear(T table);
+
+    abstract int getCapacity(T table);
+
+    abstract void forEach(T table, BiConsumer<Long, Double> action);
+
+    abstract String format(double value);
+
+    @BeforeEach
+    void setUp() {
+        hashTable = create();
+    }
+
+    @Test
+    void testPutAndGet() throws KeyNotFoundException, EmptyHashTableException {
+        put(hashTable, 1, 100);
+        put(hashTable, 1 << 20, 200);
+
+        assertEquals(100, get(hashTable, 1));
+        assertEquals(200, get(hashTable, 1 << 20));
+        assertEquals(2, getSize(hashTable));
+    }
+
+    @Test
+    void testPutUpdateExistingKey() throws KeyNotFoundException, EmptyHashTableException {
+        put(hashTable, 1, 100);
+        put(hashTable, 1, 150);
+
+        assertEquals(150, get(hashTable, 1));
+        assertEquals(1, getSize(hashTable));
+    }
+
+    @Test
+    void testZeroKey() throws KeyNotFoundException, EmptyHashTableException {
+        assertFalse(containsKey(hashTable, 0));
+        put(hashTable, 0, 7);
+        put(hashTable, 5, 8);
+
+        assertTrue(containsKey(hashTable, 0));
+        assertEquals(7, get(hashTable, 0));
+        assertEquals(2, getSize(hashTable));
+
+        assertEquals(7, remove(hashTable, 0));
+        assertFalse(containsKey(hashTable, 0));
+        assertThrows(KeyNotFoundException.class, () -> get(hashTable, 0));
+        assertEquals(1, getSize(hashTable));
+    }
+
+    @Test
+    void testGetFromEmptyTable() {
+        assertThrows(EmptyHashTableException.class, () -> get(hashTable, 1));
+    }
+
+    @Test
+    void testGetNonExistentKey() {
+        put(hashTable, 1, 100);
+        assertThrows(KeyNotFoundException.class, () -> get(hashTable, 2));
+    }
+
+    @Test
+    void testGetOrDefault() {
+        put(hashTable, 1, 100);
+
+        assertEquals(100, getOrDefault(hashTable, 1, -1));
+        assertEquals(-1, getOrDefault(hashTable, 2, -1));
+        assertEquals(-1, getOrDefault(hashTable, 0, -1));
+    }
+
+    @Test
+    void testAddTo() {
+        assertEquals(3, addTo(hashTable, 42, 3));
+        assertEquals(5, addTo(hashTable, 42, 2));
+        assertEquals(1, addTo(hashTable, 0, 1));
+        assertEquals(2, getSize(hashTable));
+        assertEquals(5, getOrDefault(hashTable, 42, 0));
+    }
+
+    @Test
+    void testUpdate() throws KeyNotFoundException, EmptyHashTableException {
+        put(hashTable, 1, 100);
+        update(hashTable, 1, 200);
+
+        assertEquals(200, get(hashTable, 1));
+        assertThrows(KeyNotFoundException.class, () -> update(hashTable, 2, 1));
+    }
+
+    @Test
+    void testUpdateEmptyTable() {
+        assertThrows(EmptyHashTableException.class, () -> update(hashTable, 1, 100));
+    }
+
+    @Test
+    void testRemove() throws KeyNotFoundException, EmptyHashTableException {
+        put(hashTable, 1, 100);
+        put(hashTable, 2, 200);
+
+        assertEquals(100, remove(hashTable, 1));
+        assertFalse(containsKey(hashTable, 1));
+        assertEquals(1, getSize(hashTable));
+        assertThrows(KeyNotFoundException.class, () -> remove(hashTable, 1));
+    }
+
+    @Test
+    void testRemoveFromEmptyTable() {
+        assertThrows(EmptyHashTableException.class, () -> remove(hashTable, 1));
+    }
+
+    @Test
+    void testClear() {
+        for (int i = 0; i < 1000; i++) {
+            put(hashTable, i, i);
+        }
+
+        clear(hashTable);
+
+        assertTrue(isEmpty(hashTable));
+        assertFalse(containsKey(hashTable, 0));
+        assertFalse(containsKey(hashTable, 500));
+        assertEquals(16, getCapacity(hashTable));
+    }
+
+    @Test
+    void testResizeAndShrink() throws KeyNotFoundException, EmptyHashTableException {
+        for (int i = 1; i <= 1000; i++) {
+            put(hashTable, i * 31, i);
+        }
+        assertTrue(getCapacity(hashTable) >= 1024);
+
+        for (int i = 1; i <= 990; i++) {
+            assertEquals(i, remove(hashTable, i * 31));
+        }
+        assertEquals(10, getSize(hashTable));
+        assertTrue(getCapacity(hashTable) < 1024);
+        for (int i = 991; i <= 1000; i++) {
+            assertEquals(i, get(hashTable, i * 31));
+        }
+    }
+
+    @Test
+    void testExpectedSize() {
+        T table = create(1000);
+        int capacity = getCapacity(table);
+
+        for (int i = 1; i <= 1000; i++) {
+            put(table, i, 0);
+        }
+        assertEquals(capacity, getCapacity(table));
+        assertThrows(IllegalArgumentException.class, () -> create(-1));
+    }
+
+    @Test
+    void testForEach() {
+        put(hashTable, 0, 1);
+        put(hashTable, 10, 2);
+        put(hashTable, 20, 3);
+
+        long[] keySum = {0};
+        double[] valueSum = {0};
+        forEach(hashTable, (key, value) -> {
+            keySum[0] += key;
+            valueSum[0] += value;
+        });
+
+        assertEquals(30L, keySum[0]);
+        assertEquals(6, valueSum[0]);
+    }
+
+    @Test
+    void testEquals() {
+        T other = create();
+        assertTrue(hashTable.equals(other));
+
+        put(hashTable, 1, 100);
+        put(hashTable, 0, 5);
+        assertFalse(hashTable.equals(other));
+
+        put(other, 0, 5);
+        put(other, 1, 100);
+        assertTrue(hashTable.equals(other));
+
+        put(other, 1, 200);
+        assertFalse(hashTable.equals(other));
+        assertFalse(hashTable.equals(null));
+    }
+
+    @Test
+    void testHashCodeMatchesEquals() {
+        T other = create(1000);
+        assertEquals(hashTable.hashCode(), other.hashCode());
+
+        for (int i = 0; i < 100; i++) {
+            put(hashTable, i, i * 7);
+        }
+        for (int i = 99; i >= 0; i--) {
+            put(other, i, i * 7);
+        }
+        assertTrue(hashTable.equals(other));
+        assertEquals(hashTable.hashCode(), other.hashCode());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("{}", hashTable.toString());
+
+        put(hashTable, 1, 100);
+        assertEquals("{1=" + format(100) + "}", hashTable.toString());
+    }
+
+    @Test
+    void testRandomOperationsMatchHashMap() throws KeyNotFoundException, EmptyHashTableException {
+        Random random = new Random(17);
+        Map<Long, Double> expected = new HashMap<>();
+
+        for (int i = 0; i < 20000; i++) {
+            long key = random.nextInt(500) - 250;
+            double value = random.nextInt(1000);
+            if (random.nextBoolean()) {
+                put(hashTable, key, value);
+                expected.put(key, value);
+            } else if (expected.remove(key) != null) {
+                remove(hashTable, key);
+            }
+        }
+
+        assertEquals(expected.size(), getSize(hashTable));
+        for (Map.Entry<Long, Double> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), get(hashTable, entry.getKey()));
+        }
+    }
+}
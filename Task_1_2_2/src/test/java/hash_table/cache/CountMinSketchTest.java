@@ -0,0 +1,81 @@
+package hash_table.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountMinSketchTest {
+
+    @Test
+    void testFrequencyNeverUnderestimates() {
+        CountMinSketch sketch = new CountMinSketch(64);
+        for (int i = 0; i < 5; i++) {
+            sketch.increment(42);
+        }
+        sketch.increment(7);
+
+        assertTrue(sketch.frequency(42) >= 5);
+        assertTrue(sketch.frequency(7) >= 1);
+        assertTrue(sketch.frequency(42) > sketch.frequency(7));
+    }
+
+    @Test
+    void testCountersSaturate() {
+        CountMinSketch sketch = new CountMinSketch(64);
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(1);
+        }
+
+        assertEquals(15, sketch.frequency(1));
+    }
+
+    @Test
+    void testCountsAgeAfterSamplePeriod() {
+        CountMinSketch sketch = new CountMinSketch(16);
+        for (int i = 0; i < 15; i++) {
+            sketch.increment(1);
+        }
+        assertEquals(15, sketch.frequency(1));
+
+        for (int i = 1000; i < 1200; i++) {
+            sketch.increment(i);
+        }
+
+        assertTrue(sketch.frequency(1) < 15);
+    }
+
+    @Test
+    void testPackedCountersStayIndependent() {
+        CountMinSketch sketch = new CountMinSketch(1024);
+        for (int hash = 0; hash < 64; hash++) {
+            for (int i = 0; i < hash % 16; i++) {
+                sketch.increment(hash);
+            }
+        }
+
+        for (int hash = 0; hash < 64; hash++) {
+            assertTrue(sketch.frequency(hash) >= hash % 16);
+            assertTrue(sketch.frequency(hash) <= 15);
+        }
+    }
+
+    @Test
+    void testHalvingKeepsCountersApart() {
+        CountMinSketch sketch = new CountMinSketch(16);
+        for (int i = 0; i < 15; i++) {
+            sketch.increment(1);
+        }
+        // Other keys eventually trigger a halving, which must not carry the saturated
+        // counters' low bit into their neighbors.
+        for (int i = 1000; sketch.frequency(1) == 15; i++) {
+            sketch.increment(i);
+        }
+
+        assertEquals(7, sketch.frequency(1));
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(0));
+    }
+}
@@ -0,0 +1,195 @@
+package hash_table.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashTableCacheTest {
+
+    @Test
+    void testLruEvictsLeastRecentlyUsed() {
+        HashTableCache<String, Integer> cache = new HashTableCache<>(2, EvictionPolicy.LRU);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(1, cache.getIfPresent("a"));
+
+        cache.put("c", 3);
+
+        assertEquals(2, cache.getSize());
+        assertNull(cache.getIfPresent("b"));
+        assertEquals(1, cache.getIfPresent("a"));
+        assertEquals(3, cache.getIfPresent("c"));
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    void testPutReplacesWithoutEviction() {
+        HashTableCache<String, Integer> cache = new HashTableCache<>(2, EvictionPolicy.LRU);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("a", 10);
+
+        assertEquals(2, cache.getSize());
+        assertEquals(10, cache.getIfPresent("a"));
+        assertEquals(2, cache.getIfPresent("b"));
+        assertEquals(0, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    void testLfuKeepsFrequentKeys() {
+        HashTableCache<Integer, Integer> cache = new HashTableCache<>(10, EvictionPolicy.LFU);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, i);
+            for (int j = 0; j < 3; j++) {
+                cache.getIfPresent(i);
+            }
+        }
+
+        // A scan of keys seen once must not flush the frequently used ones.
+        for (int i = 100; i < 200; i++) {
+            cache.put(i, i);
+        }
+
+        assertEquals(10, cache.getSize());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, cache.getIfPresent(i));
+        }
+    }
+
+    @Test
+    void testLfuAdmitsKeysThatBecomePopular() {
+        HashTableCache<Integer, Integer> cache = new HashTableCache<>(2, EvictionPolicy.LFU);
+        cache.put(1, 1);
+        cache.put(2, 2);
+        for (int i = 0; i < 5; i++) {
+            cache.getIfPresent(3);
+        }
+
+        cache.put(3, 3);
+
+        assertEquals(3, cache.getIfPresent(3));
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    void testGetLoadsOnce() {
+        HashTableCache<String, Integer> cache = new HashTableCache<>(4, EvictionPolicy.LRU);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(3, cache.get("abc", key -> {
+            loads.incrementAndGet();
+            return key.length();
+        }));
+        assertEquals(3, cache.get("abc", key -> {
+            loads.incrementAndGet();
+            return key.length();
+        }));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().getHitCount());
+        assertEquals(1, cache.stats().getMissCount());
+    }
+
+    @Test
+    void testNullLoaderResultIsNotCached() {
+        HashTableCache<String, Integer> cache = new HashTableCache<>(4, EvictionPolicy.LRU);
+
+        assertNull(cache.get("a", key -> null));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void testNullKey() {
+        HashTableCache<String, Integer> cache = new HashTableCache<>(4, EvictionPolicy.LFU);
+        cache.put(null, 1);
+
+        assertEquals(1, cache.getIfPresent(null));
+        assertTrue(cache.invalidate(null));
+        assertNull(cache.getIfPresent(null));
+    }
+
+    @Test
+    void testExpireAfterWrite() {
+        AtomicLong now = new AtomicLong();
+        HashTableCache<String, Integer> cache = new HashTableCache<>(4, EvictionPolicy.LRU,
+                Duration.ofSeconds(10), now::get);
+        cache.put("a", 1);
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        cache.put("b", 2);
+        assertEquals(1, cache.getIfPresent("a"));
+
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertNull(cache.getIfPresent("a"));
+        assertEquals(2, cache.getIfPresent("b"));
+        assertEquals(1, cache.getSize());
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    void testExpiredTailIsEvictedFirst() {
+        AtomicLong now = new AtomicLong();
+        HashTableCache<Integer, Integer> cache = new HashTableCache<>(2, EvictionPolicy.LFU,
+                Duration.ofSeconds(1), now::get);
+        cache.put(1, 1);
+        for (int i = 0; i < 5; i++) {
+            cache.getIfPresent(1);
+        }
+        cache.put(2, 2);
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        cache.put(3, 3);
+
+        assertEquals(3, cache.getIfPresent(3));
+    }
+
+    @Test
+    void testInvalidate() {
+        HashTableCache<String, Integer> cache = new HashTableCache<>(4, EvictionPolicy.LRU);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertTrue(cache.invalidate("a"));
+        assertFalse(cache.invalidate("a"));
+        assertEquals(1, cache.getSize());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.getSize());
+        assertNull(cache.getIfPresent("b"));
+
+        cache.put("c", 3);
+        assertEquals(3, cache.getIfPresent("c"));
+    }
+
+    @Test
+    void testStats() {
+        HashTableCache<String, Integer> cache = new HashTableCache<>(4, EvictionPolicy.LRU);
+        assertEquals(1.0, cache.stats().getHitRate());
+
+        cache.put("a", 1);
+        cache.getIfPresent("a");
+        cache.getIfPresent("a");
+        cache.getIfPresent("a");
+        cache.getIfPresent("b");
+
+        CacheStats stats = cache.stats();
+        assertEquals(3, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(4, stats.getRequestCount());
+        assertEquals(0.75, stats.getHitRate());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HashTableCache<>(0, EvictionPolicy.LRU));
+        assertThrows(IllegalArgumentException.class, () -> new HashTableCache<>(1, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashTableCache<>(1, EvictionPolicy.LRU, Duration.ZERO));
+        HashTableCache<String, Integer> cache = new HashTableCache<>(1, EvictionPolicy.LRU);
+        assertThrows(IllegalArgumentException.class, () -> cache.put("a", null));
+    }
+}
@@ -0,0 +1,62 @@
+package hash_table.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodecTest {
+
+    private static <T> T roundTrip(Codec<T> codec, T value) {
+        ByteBuffer buffer = ByteBuffer.allocate(codec.width());
+        codec.encode(value, buffer);
+        assertEquals(codec.width(), buffer.position());
+        buffer.flip();
+        T decoded = codec.decode(buffer);
+        assertEquals(codec.width(), buffer.position());
+        return decoded;
+    }
+
+    @Test
+    void testPrimitiveCodecs() {
+        assertEquals(-7, roundTrip(Codec.ints(), -7));
+        assertEquals(Long.MIN_VALUE, roundTrip(Codec.longs(), Long.MIN_VALUE));
+        assertEquals(3.5, roundTrip(Codec.doubles(), 3.5));
+        assertEquals(Integer.BYTES, Codec.ints().width());
+        assertEquals(Long.BYTES, Codec.longs().width());
+        assertEquals(Double.BYTES, Codec.doubles().width());
+    }
+
+    @Test
+    void testStringCodec() {
+        Codec<String> codec = Codec.strings(16);
+
+        assertEquals(Integer.BYTES + 16, codec.width());
+        assertEquals("", roundTrip(codec, ""));
+        assertEquals("ключ", roundTrip(codec, "ключ"));
+        assertEquals("0123456789abcdef", roundTrip(codec, "0123456789abcdef"));
+    }
+
+    @Test
+    void testStringCodecEncodesCanonically() {
+        Codec<String> codec = Codec.strings(8);
+        ByteBuffer first = ByteBuffer.allocate(codec.width());
+        ByteBuffer second = ByteBuffer.allocate(codec.width());
+        second.put(0, new byte[codec.width()]);
+
+        codec.encode("abc", first);
+        codec.encode("abc", second);
+
+        assertEquals(first.flip(), second.flip());
+    }
+
+    @Test
+    void testStringCodecRejectsLongStrings() {
+        Codec<String> codec = Codec.strings(4);
+        ByteBuffer buffer = ByteBuffer.allocate(codec.width());
+
+        assertThrows(IllegalArgumentException.class, () -> codec.encode("toolong", buffer));
+        assertThrows(IllegalArgumentException.class, () -> Codec.strings(-1));
+    }
+}
@@ -0,0 +1,61 @@
+package hash_table.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntryPoolTest {
+
+    @Test
+    void testReleasedEntryIsReused() {
+        EntryPool<String, Integer> pool = new EntryPool<>(2);
+        Entry<String, Integer> entry = pool.acquire("a", 1, 7);
+        entry.setNext(new Entry<>("b", 2));
+
+        pool.release(entry);
+        assertEquals(1, pool.size());
+        assertNull(entry.getKey());
+        assertNull(entry.getValue());
+
+        Entry<String, Integer> reused = pool.acquire("c", 3, 9);
+        assertSame(entry, reused);
+        assertEquals("c", reused.getKey());
+        assertEquals(3, reused.getValue());
+        assertEquals(9, reused.getHash());
+        assertNull(reused.getNext());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void testPoolIsBounded() {
+        EntryPool<String, Integer> pool = new EntryPool<>(1);
+        pool.release(new Entry<>("a", 1));
+        pool.release(new Entry<>("b", 2));
+
+        assertEquals(1, pool.size());
+        assertNotNull(pool.acquire("c", 3, 0));
+        assertEquals(0, pool.size());
+        assertNotNull(pool.acquire("d", 4, 0));
+    }
+
+    @Test
+    void testLinkedPoolHandsOutClearedLinkedEntries() {
+        EntryPool<String, Integer> pool = new EntryPool<>(1, true);
+        LinkedEntry<String, Integer> entry = (LinkedEntry<String, Integer>) pool.acquire("a", 1, 0);
+        entry.setAfter(new LinkedEntry<>("b", 2, 0));
+        entry.setBefore(new LinkedEntry<>("z", 0, 0));
+
+        pool.release(entry);
+        Entry<String, Integer> reused = pool.acquire("c", 3, 0);
+        assertSame(entry, reused);
+        assertNull(entry.getBefore());
+        assertNull(entry.getAfter());
+        assertFalse(new EntryPool<String, Integer>(1).acquire("d", 4, 0) instanceof LinkedEntry);
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new EntryPool<String, Integer>(-1));
+        assertEquals(0, new EntryPool<String, Integer>(0).getMaxSize());
+    }
+}
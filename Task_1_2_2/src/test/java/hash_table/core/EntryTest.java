@@ -80,6 +80,14 @@ class EntryTest {
         assertNotNull(bothNullEntry.hashCode());
     }
 
+    @Test
+    void testCachedHash() {
+        assertEquals(0, entry.getHash());
+        assertEquals(42, new Entry<>("key1", 100, 42).getHash());
+        assertEquals(entry, new Entry<>("key1", 100, 42));
+        assertEquals("key1".hashCode() ^ Integer.valueOf(100).hashCode(), entry.hashCode());
+    }
+
     @Test
     void testToString() {
         assertEquals("key1=100", entry.toString());
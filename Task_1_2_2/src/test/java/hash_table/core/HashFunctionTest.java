@@ -141,6 +141,80 @@ class HashFunctionTest {
         assertEquals(hash1, hash2);
     }
 
+    @Test
+    void testHashWithMinIntegerHashCodeAndOddCapacity() {
+        Object minHashObject = new Object() {
+            @Override
+            public int hashCode() {
+                return Integer.MIN_VALUE;
+            }
+        };
+
+        for (int capacity = 1; capacity < 50; capacity++) {
+            int hash = HashFunction.hash(minHashObject, capacity);
+            assertTrue(hash >= 0 && hash < capacity);
+        }
+    }
+
+    @Test
+    void testMix() {
+        assertEquals(0, HashFunction.mix(0));
+        assertNotEquals(1, HashFunction.mix(1));
+        assertNotEquals(HashFunction.mix(1 << 20), HashFunction.mix(2 << 20));
+    }
+
+    @Test
+    void testMixSpreadsHighBitKeys() {
+        int capacity = 64;
+        boolean[] used = new boolean[capacity];
+        int distinct = 0;
+
+        for (int i = 0; i < capacity; i++) {
+            int index = HashFunction.indexFor(HashFunction.mix(i << 16), capacity);
+            if (!used[index]) {
+                used[index] = true;
+                distinct++;
+            }
+        }
+
+        assertTrue(distinct > capacity / 2, "Keys differing only in high bits should spread: " + distinct);
+    }
+
+    @Test
+    void testMixLong() {
+        assertEquals(0, HashFunction.mix(0L));
+        assertNotEquals(HashFunction.mix(1L), HashFunction.mix(1L << 32));
+
+        int capacity = 64;
+        boolean[] used = new boolean[capacity];
+        int distinct = 0;
+        for (long i = 0; i < capacity; i++) {
+            int index = HashFunction.indexFor(HashFunction.mix(i << 32), capacity);
+            if (!used[index]) {
+                used[index] = true;
+                distinct++;
+            }
+        }
+        assertTrue(distinct > capacity / 2, "Keys differing only in high bits should spread: " + distinct);
+    }
+
+    @Test
+    void testIndexFor() {
+        assertEquals(5, HashFunction.indexFor(21, 16));
+        assertEquals(15, HashFunction.indexFor(-1, 16));
+        assertEquals(1, HashFunction.indexFor(15, 7));
+        assertEquals(6, HashFunction.indexFor(-1, 7));
+    }
+
+    @Test
+    void testTableSizeFor() {
+        assertEquals(1, HashFunction.tableSizeFor(0));
+        assertEquals(1, HashFunction.tableSizeFor(1));
+        assertEquals(16, HashFunction.tableSizeFor(16));
+        assertEquals(32, HashFunction.tableSizeFor(17));
+        assertEquals(1 << 30, HashFunction.tableSizeFor(Integer.MAX_VALUE));
+    }
+
     private static class CustomKey {
         private final String name;
         private final int value;
@@ -0,0 +1,31 @@
+package hash_table.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashStrategyTest {
+
+    @Test
+    void testDefaultStrategyMixesHashCode() {
+        HashStrategy<String> strategy = HashStrategy.defaultStrategy();
+
+        assertEquals(HashFunction.mix("key".hashCode()), strategy.hash("key"));
+        assertEquals(strategy.hash("key"), strategy.hash(new String("key")));
+    }
+
+    @Test
+    void testDefaultStrategyWithNullKey() {
+        HashStrategy<Object> strategy = HashStrategy.defaultStrategy();
+
+        assertEquals(0, strategy.hash(null));
+    }
+
+    @Test
+    void testCustomStrategy() {
+        HashStrategy<Long> strategy = key -> HashFunction.mix((int) (key ^ (key >>> 32)));
+
+        assertEquals(strategy.hash(42L), strategy.hash(42L));
+        assertNotEquals(strategy.hash(1L), strategy.hash(2L));
+    }
+}
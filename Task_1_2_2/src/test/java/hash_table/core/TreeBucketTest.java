@@ -0,0 +1,118 @@
+package hash_table.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeBucketTest {
+
+    private static Entry<Object, Integer> chain(Object... keys) {
+        Entry<Object, Integer> head = null;
+        for (int i = keys.length - 1; i >= 0; i--) {
+            Entry<Object, Integer> entry = new Entry<>(keys[i], i);
+            entry.setNext(head);
+            head = entry;
+        }
+        return head;
+    }
+
+    private static int chainLength(Entry<?, ?> head) {
+        int length = 0;
+        for (Entry<?, ?> e = head; e != null; e = e.getNext()) {
+            length++;
+        }
+        return length;
+    }
+
+    @Test
+    void testTreeifyKeepsEveryEntry() {
+        TreeBucket<Object, Integer> bucket = TreeBucket.treeify(chain("a", "b", "c", "d", "e"));
+
+        assertEquals(5, bucket.size());
+        assertEquals(5, chainLength(bucket.getHead()));
+        for (String key : new String[] {"a", "b", "c", "d", "e"}) {
+            assertNotNull(bucket.find(key, 0));
+        }
+        assertNull(bucket.find("z", 0));
+    }
+
+    @Test
+    void testChainFollowsTreeOrder() {
+        TreeBucket<Object, Integer> bucket = TreeBucket.treeify(chain("d", "b", "a", "c"));
+
+        StringBuilder order = new StringBuilder();
+        for (Entry<Object, Integer> e = bucket.getHead(); e != null; e = e.getNext()) {
+            order.append(e.getKey());
+        }
+        assertEquals("abcd", order.toString());
+    }
+
+    @Test
+    void testInsertAndRemove() {
+        TreeBucket<Object, Integer> bucket = TreeBucket.treeify(chain("m"));
+
+        for (int i = 0; i < 100; i++) {
+            bucket.insert(new Entry<>("k" + i, i), 0);
+        }
+        assertEquals(101, bucket.size());
+        assertEquals(101, chainLength(bucket.getHead()));
+        assertTrue(bucket.height() <= 10);
+
+        for (int i = 0; i < 100; i += 2) {
+            Entry<Object, Integer> removed = bucket.remove("k" + i, 0);
+            assertNotNull(removed);
+            assertEquals(i, removed.getValue());
+            assertNull(removed.getNext());
+        }
+        assertNull(bucket.remove("k0", 0));
+        assertEquals(51, bucket.size());
+        assertEquals(51, chainLength(bucket.getHead()));
+        assertNotNull(bucket.find("k1", 0));
+        assertNull(bucket.find("k2", 0));
+    }
+
+    @Test
+    void testIncomparableKeysWithSameHash() {
+        TreeBucket<Object, Integer> bucket = TreeBucket.treeify(null);
+        Set<Object> keys = new HashSet<>();
+        for (int i = 0; i < 64; i++) {
+            Object key = new Object();
+            keys.add(key);
+            bucket.insert(new Entry<>(key, i), 0);
+        }
+
+        for (Object key : keys) {
+            assertSame(key, bucket.find(key, 0).getKey());
+        }
+        for (Object key : keys) {
+            assertNotNull(bucket.remove(key, 0));
+        }
+        assertEquals(0, bucket.size());
+        assertNull(bucket.getHead());
+    }
+
+    @Test
+    void testTreeifyUsesCachedHashes() {
+        Entry<Object, Integer> low = new Entry<>("b", 1, 1);
+        Entry<Object, Integer> high = new Entry<>("a", 2, 2);
+        high.setNext(low);
+        TreeBucket<Object, Integer> bucket = TreeBucket.treeify(high);
+
+        assertSame(low, bucket.getHead());
+        assertSame(high, bucket.find("a", 2));
+        assertNull(bucket.find("a", 1));
+    }
+
+    @Test
+    void testNullKey() {
+        TreeBucket<Object, Integer> bucket = TreeBucket.treeify(chain(null, "a", "b"));
+
+        assertNotNull(bucket.find(null, 0));
+        assertNull(bucket.remove(null, 0).getKey());
+        assertNull(bucket.find(null, 0));
+        assertEquals(2, bucket.size());
+    }
+}
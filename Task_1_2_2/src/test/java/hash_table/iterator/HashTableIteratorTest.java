@@ -76,6 +76,22 @@ class HashTableIteratorTest {
         assertThrows(NoSuchElementException.class, iterator::next);
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void testCapacityConstructorIgnoresCapacity() {
+        for (int i = 0; i < 100; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        Iterator<Entry<String, Integer>> iterator = new HashTableIterator<>(hashTable, 1);
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        assertEquals(100, count);
+    }
+
     @Test
     void testConcurrentModificationException() {
         hashTable.put("key1", 100);
@@ -235,4 +251,18 @@ class HashTableIteratorTest {
         assertEquals(keys1, keys2);
         assertEquals(3, keys1.size());
     }
+
+    @Test
+    void testIteratorDuringIncrementalRehash() {
+        for (int i = 0; i < 13; i++) {
+            hashTable.put("key" + i, i);
+        }
+        assertTrue(hashTable.isRehashing());
+
+        Set<String> foundKeys = new HashSet<>();
+        for (Entry<String, Integer> entry : hashTable) {
+            assertTrue(foundKeys.add(entry.getKey()));
+        }
+        assertEquals(13, foundKeys.size());
+    }
 }
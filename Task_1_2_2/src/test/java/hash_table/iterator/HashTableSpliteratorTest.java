@@ -0,0 +1,110 @@
+package hash_table.iterator;
+
+import hash_table.HashTable;
+import hash_table.core.Entry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashTableSpliteratorTest {
+    private HashTable<Integer, Integer> hashTable;
+
+    @BeforeEach
+    void setUp() {
+        hashTable = new HashTable<>();
+    }
+
+    @Test
+    void testEmptyTable() {
+        Spliterator<Entry<Integer, Integer>> spliterator = new HashTableSpliterator<>(hashTable);
+
+        assertEquals(0, spliterator.estimateSize());
+        assertFalse(spliterator.tryAdvance(entry -> fail()));
+    }
+
+    @Test
+    void testTryAdvanceVisitsEveryEntry() {
+        for (int i = 0; i < 100; i++) {
+            hashTable.put(i, i * 2);
+        }
+
+        Spliterator<Entry<Integer, Integer>> spliterator = new HashTableSpliterator<>(hashTable);
+        assertEquals(100, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+
+        Set<Integer> keys = new HashSet<>();
+        while (spliterator.tryAdvance(entry -> {
+            assertEquals(entry.getKey() * 2, entry.getValue());
+            assertTrue(keys.add(entry.getKey()));
+        })) {
+            // keep advancing
+        }
+        assertEquals(100, keys.size());
+    }
+
+    @Test
+    void testSplitCoversEveryEntryOnce() {
+        for (int i = 0; i < 10000; i++) {
+            hashTable.put(i, i);
+        }
+
+        Deque<Spliterator<Entry<Integer, Integer>>> parts = new ArrayDeque<>();
+        parts.push(new HashTableSpliterator<>(hashTable));
+        Set<Integer> keys = new HashSet<>();
+        long estimated = 0;
+        int splits = 0;
+
+        while (!parts.isEmpty()) {
+            Spliterator<Entry<Integer, Integer>> part = parts.pop();
+            Spliterator<Entry<Integer, Integer>> prefix = part.estimateSize() > 500 ? part.trySplit() : null;
+            if (prefix != null) {
+                assertFalse(part.hasCharacteristics(Spliterator.SIZED));
+                parts.push(part);
+                parts.push(prefix);
+                splits++;
+                continue;
+            }
+            estimated += part.estimateSize();
+            part.forEachRemaining(entry -> assertTrue(keys.add(entry.getKey())));
+        }
+
+        assertTrue(splits > 4);
+        assertEquals(10000, keys.size());
+        assertEquals(10000, estimated);
+    }
+
+    @Test
+    void testSplitDuringIncrementalRehash() {
+        for (int i = 0; i < 13; i++) {
+            hashTable.put(i, i);
+        }
+        assertTrue(hashTable.isRehashing());
+
+        Spliterator<Entry<Integer, Integer>> suffix = new HashTableSpliterator<>(hashTable);
+        Spliterator<Entry<Integer, Integer>> prefix = suffix.trySplit();
+        Set<Integer> keys = new HashSet<>();
+        prefix.forEachRemaining(entry -> assertTrue(keys.add(entry.getKey())));
+        suffix.forEachRemaining(entry -> assertTrue(keys.add(entry.getKey())));
+
+        assertEquals(13, keys.size());
+    }
+
+    @Test
+    void testConcurrentModification() {
+        hashTable.put(1, 1);
+        hashTable.put(2, 2);
+
+        Spliterator<Entry<Integer, Integer>> spliterator = new HashTableSpliterator<>(hashTable);
+        assertThrows(ConcurrentModificationException.class,
+                () -> spliterator.forEachRemaining(entry -> hashTable.put(entry.getKey() + 100, 0)));
+    }
+}
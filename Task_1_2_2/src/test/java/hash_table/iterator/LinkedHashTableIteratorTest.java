@@ -0,0 +1,128 @@
+package hash_table.iterator;
+
+import hash_table.HashTable;
+import hash_table.core.Entry;
+import hash_table.core.HashStrategy;
+import hash_table.core.LinkedEntry;
+import hash_table.exception.EmptyHashTableException;
+import hash_table.exception.KeyNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedHashTableIteratorTest {
+    private HashTable<String, Integer> hashTable;
+
+    @BeforeEach
+    void setUp() {
+        hashTable = new HashTable<>(0, 0.75, HashStrategy.defaultStrategy(), true);
+    }
+
+    private List<String> keys() {
+        List<String> keys = new ArrayList<>();
+        for (Entry<String, Integer> entry : hashTable) {
+            keys.add(entry.getKey());
+        }
+        return keys;
+    }
+
+    @Test
+    void testIteratorOnEmptyTable() {
+        Iterator<Entry<String, Integer>> iterator = hashTable.iterator();
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testInsertionOrderSurvivesRehash() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            hashTable.put("key" + (i * 7919 % 1000), i);
+            expected.add("key" + (i * 7919 % 1000));
+        }
+
+        assertTrue(hashTable.isInsertionOrdered());
+        assertEquals(expected, keys());
+    }
+
+    @Test
+    void testRemoveAndReinsert() throws KeyNotFoundException, EmptyHashTableException {
+        hashTable.put("a", 1);
+        hashTable.put("b", 2);
+        hashTable.put("c", 3);
+        hashTable.put("a", 10);
+        assertEquals(List.of("a", "b", "c"), keys());
+
+        hashTable.remove("a");
+        assertEquals(List.of("b", "c"), keys());
+        hashTable.removeIfPresent("c");
+        assertEquals(List.of("b"), keys());
+
+        hashTable.put("a", 1);
+        assertEquals(List.of("b", "a"), keys());
+        assertEquals("{b=2, a=1}", hashTable.toString());
+
+        hashTable.clear();
+        assertEquals(List.of(), keys());
+        assertNull(hashTable.getFirstEntry());
+    }
+
+    @Test
+    void testForEachAndStreamFollowInsertionOrder() {
+        for (String key : new String[] {"z", "y", "x", "w"}) {
+            hashTable.put(key, key.charAt(0) - 'a');
+        }
+        List<String> visited = new ArrayList<>();
+        hashTable.forEach((key, value) -> visited.add(key));
+
+        assertEquals(List.of("z", "y", "x", "w"), visited);
+        assertEquals(visited, hashTable.stream().map(Entry::getKey).collect(Collectors.toList()));
+        assertEquals(visited, hashTable.parallelStream().map(Entry::getKey).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testOrderWithEntryPoolAndSnapshot() {
+        hashTable.setEntryPoolSize(8);
+        hashTable.put("a", 1);
+        hashTable.put("b", 2);
+        hashTable.snapshot();
+        hashTable.put("b", 20);
+        hashTable.removeIfPresent("a");
+        hashTable.put("c", 3);
+        hashTable.put("d", 4);
+
+        assertEquals(List.of("b", "c", "d"), keys());
+        assertEquals(20, hashTable.getFirstEntry().getValue());
+    }
+
+    @Test
+    void testOnlyOrderedTablesLinkEntries() {
+        HashTable<String, Integer> plain = new HashTable<>();
+        plain.put("a", 1);
+        hashTable.put("a", 1);
+
+        assertFalse(plain.iterator().next() instanceof LinkedEntry);
+        assertTrue(hashTable.iterator().next() instanceof LinkedEntry);
+        assertEquals(plain.iterator().next(), hashTable.iterator().next());
+    }
+
+    @Test
+    void testConcurrentModification() {
+        hashTable.put("a", 1);
+        hashTable.put("b", 2);
+        Iterator<Entry<String, Integer>> iterator = hashTable.iterator();
+        iterator.next();
+        hashTable.put("c", 3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+}